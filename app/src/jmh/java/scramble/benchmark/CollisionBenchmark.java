@@ -0,0 +1,173 @@
+package scramble.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import scramble.model.bullets.Bullet;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.api.SpatialHash;
+import scramble.model.common.impl.SpatialHashImpl;
+import scramble.model.world.EntityStore;
+import scramble.model.world.TickScheduler;
+import scramble.utility.Constants;
+
+/**
+ * Benchmarks of the bullet collision pass of the game world, with a
+ * configurable number of targets and bullets spread over the screen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final int CELL_SIZE = 64;
+    private static final int TANK_SIZE = 32;
+    private static final long SEED = 1981;
+    private static final int GRAIN = 16;
+
+    /** Number of rockets and fuel tanks. */
+    @Param({ "10", "100", "1000" })
+    public int targets;
+
+    /** Number of bullets. */
+    @Param({ "2", "20", "200" })
+    public int bullets;
+
+    private final List<Bullet> bulletList = new ArrayList<>();
+    private EntityStore store;
+    private SpatialHash grid;
+    private final TickScheduler scheduler = new TickScheduler(ForkJoinPool.commonPool(), GRAIN);
+    private int[] hits;
+
+    /** Places the entities at random, always in the same way. */
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+        this.bulletList.clear();
+        final int[] xs = new int[this.targets];
+        final int[] ys = new int[this.targets];
+        for (int i = 0; i < this.targets; i++) {
+            xs[i] = random.nextInt(Constants.WINDOW_WIDTH);
+            ys[i] = random.nextInt(Constants.WINDOW_HEIGHT);
+        }
+        for (int i = 0; i < this.bullets; i++) {
+            this.bulletList.add(new Bullet(random.nextInt(Constants.WINDOW_WIDTH),
+                    random.nextInt(Constants.WINDOW_HEIGHT),
+                    i % 2 == 0 ? BulletType.TYPE_HORIZONTAL : BulletType.TYPE_BOMB));
+        }
+        this.store = new EntityStore();
+        for (int i = 0; i < this.targets; i++) {
+            // Rockets and fuel tanks, one each
+            this.store.add(xs[i], ys[i], i % 2 == 0 ? Constants.ROCKET_WIDTH : TANK_SIZE,
+                    i % 2 == 0 ? Constants.ROCKET_HEIGHT : TANK_SIZE);
+        }
+        this.grid = new SpatialHashImpl(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, CELL_SIZE);
+        this.hits = new int[this.bullets];
+    }
+
+    /**
+     * Fills the spatial hash and queries it once per bullet, as the world does
+     * every tick.
+     *
+     * @param blackhole sink for the ids of the hit targets
+     */
+    @Benchmark
+    public void spatialHash(final Blackhole blackhole) {
+        this.fillGrid();
+        for (final Bullet bullet : this.bulletList) {
+            blackhole.consume(this.grid.firstCollision(bullet.x(), bullet.y(), bullet.width(), bullet.height()));
+        }
+    }
+
+    /**
+     * Fills the spatial hash and queries it from the bullets split across the
+     * common pool, as the world does when its scheduler has more than one
+     * thread.
+     *
+     * @return the ids of the hit targets
+     */
+    @Benchmark
+    public int[] spatialHashParallel() {
+        this.fillGrid();
+        this.scheduler.forRange(this.bulletList.size(), i -> {
+            final Bullet bullet = this.bulletList.get(i);
+            this.hits[i] = this.grid.firstCollision(bullet.x(), bullet.y(), bullet.width(), bullet.height());
+        });
+        return this.hits;
+    }
+
+    /**
+     * Tests every bullet against every target, as the world did before the
+     * spatial hash.
+     *
+     * @param blackhole sink for the indexes of the hit targets
+     */
+    @Benchmark
+    public void allPairs(final Blackhole blackhole) {
+        for (final Bullet bullet : this.bulletList) {
+            int hit = -1;
+            for (int i = 0; i < this.store.size() && hit < 0; i++) {
+                if (bullet.intersects(this.store.x(i), this.store.y(i), this.store.width(i), this.store.height(i))) {
+                    hit = i;
+                }
+            }
+            blackhole.consume(hit);
+        }
+    }
+
+    /**
+     * Queries the entity store once per bullet, through its binary search on
+     * the x coordinates: the store is sorted by x, so it needs nothing to be
+     * filled again.
+     *
+     * @param blackhole sink for the indexes of the hit targets
+     */
+    @Benchmark
+    public void entityStore(final Blackhole blackhole) {
+        for (final Bullet bullet : this.bulletList) {
+            blackhole.consume(this.store.firstIntersecting(bullet.x(), bullet.y(), bullet.width(),
+                    bullet.height()));
+        }
+    }
+
+    /**
+     * Queries the entity store from the bullets split across the common
+     * pool.
+     *
+     * @return the indexes of the hit targets
+     */
+    @Benchmark
+    public int[] entityStoreParallel() {
+        this.scheduler.forRange(this.bulletList.size(), i -> {
+            final Bullet bullet = this.bulletList.get(i);
+            this.hits[i] = this.store.firstIntersecting(bullet.x(), bullet.y(), bullet.width(), bullet.height());
+        });
+        return this.hits;
+    }
+
+    private void fillGrid() {
+        this.grid.clear();
+        for (int i = 0; i < this.store.size(); i++) {
+            this.grid.insert(this.store.x(i), this.store.y(i), this.store.width(i), this.store.height(i));
+        }
+    }
+}
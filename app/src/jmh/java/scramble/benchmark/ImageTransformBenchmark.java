@@ -0,0 +1,130 @@
+package scramble.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.model.common.util.BufferedImageManager;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandPart;
+
+/**
+ * Benchmarks of the transformations applied to the land sprites while the map
+ * is built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImageTransformBenchmark {
+
+    private static final int HALF_TURN = 180;
+    private static final float STAGE_BAR = 0.5f;
+
+    /** The land sprite to transform. */
+    @Param({ "DARK_BRICK_WALL", "WHITE_SQUARE", "STANDARD_CLIMB" })
+    public LandPart part;
+
+    private BufferedImage sprite;
+    private BufferedImage packedSprite;
+
+    /** Picks the sprite, and a copy of it with packed ARGB pixels. */
+    @Setup
+    public void setUp() {
+        this.sprite = LandUtils.getSprite(this.part);
+        this.packedSprite = new BufferedImage(this.sprite.getWidth(), this.sprite.getHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = this.packedSprite.createGraphics();
+        g.drawImage(this.sprite, 0, 0, null);
+        g.dispose();
+    }
+
+    /**
+     * Recolors the sprite as the brick columns do.
+     *
+     * @return the recolored sprite
+     */
+    @Benchmark
+    public BufferedImage changeColorClockwise() {
+        return BufferedImageManager.changeColorClockwise(this.sprite, 0);
+    }
+
+    /**
+     * Recolors the sprite as the brick column borders do.
+     *
+     * @return the recolored sprite
+     */
+    @Benchmark
+    public BufferedImage changeColorCounterClockwise() {
+        return BufferedImageManager.changeColorCounterClockwise(this.sprite, 2);
+    }
+
+    /**
+     * Turns the sprite upside down, as the ceiling does.
+     *
+     * @return the rotated sprite
+     */
+    @Benchmark
+    public BufferedImage rotateBufferedImageWithDegree() {
+        return BufferedImageManager.rotateBufferedImageWithDegree(this.sprite, HALF_TURN);
+    }
+
+    /**
+     * Turns the sprite upside down through the transform cache, as the stage
+     * generator does.
+     *
+     * @return the shared rotated sprite
+     */
+    @Benchmark
+    public BufferedImage cachedRotation() {
+        return BufferedImageManager.cachedRotation(this.sprite, HALF_TURN);
+    }
+
+    /**
+     * Recolors half of the sprite as the stage board does, through the color
+     * model of the sprite.
+     *
+     * @return the recolored sprite
+     */
+    @Benchmark
+    public BufferedImage substitutePurpleWithRed() {
+        return BufferedImageManager.substitutePurpleWithRed(this.sprite, this.sprite.getWidth() * STAGE_BAR);
+    }
+
+    /**
+     * Recolors half of the sprite as the stage board does, copying the packed
+     * pixels from the raster.
+     *
+     * @return the recolored sprite
+     */
+    @Benchmark
+    public BufferedImage substitutePurpleWithRedPacked() {
+        return BufferedImageManager.substitutePurpleWithRed(this.packedSprite,
+                this.packedSprite.getWidth() * STAGE_BAR);
+    }
+
+    /**
+     * Recolors half of the sprite through the transform cache, as the HUD does
+     * on every frame.
+     *
+     * @return the shared recolored sprite
+     */
+    @Benchmark
+    public BufferedImage cachedSubstitutePurpleWithRed() {
+        return BufferedImageManager.cachedSubstitutePurpleWithRed(this.sprite, this.sprite.getWidth() * STAGE_BAR);
+    }
+}
@@ -0,0 +1,61 @@
+package scramble.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.controller.map.MapController;
+import scramble.model.map.api.MapColumn;
+import scramble.model.world.Landscape;
+
+/**
+ * Benchmarks of the scrolling landscape, that used to be kept by the
+ * LandscapePanel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LandscapeBenchmark {
+
+    private Landscape landscape;
+
+    /** Builds the map once. */
+    @Setup
+    public void setUp() {
+        this.landscape = new Landscape(new MapController());
+    }
+
+    /**
+     * Reads the columns to draw, as the landscape panel does every frame.
+     *
+     * @return the loaded columns
+     */
+    @Benchmark
+    public List<MapColumn> getLoadedColumns() {
+        return this.landscape.getLoadedColumns();
+    }
+
+    /**
+     * Scrolls the landscape by one step, loading new columns when needed.
+     *
+     * @return the new scroll of the landscape
+     */
+    @Benchmark
+    public int update() {
+        this.landscape.update();
+        return this.landscape.getLandscapeX();
+    }
+}
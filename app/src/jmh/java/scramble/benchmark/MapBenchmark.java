@@ -0,0 +1,69 @@
+package scramble.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.PairImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.MapStageFactoryImpl;
+import scramble.model.map.util.LandsDataLoader;
+import scramble.model.map.util.elaborator.StageGenerator;
+import scramble.model.map.util.raw.RawData;
+import scramble.utility.Constants;
+
+/**
+ * Benchmarks of the construction of the map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MapBenchmark {
+
+    private RawData stage;
+
+    /** Loads the raw data of a stage. */
+    @Setup
+    public void setUp() {
+        this.stage = LandsDataLoader.getStage1Data();
+    }
+
+    /**
+     * Builds a new map and waits for its first column, as a new game does:
+     * only the stages around the start are generated.
+     *
+     * @return the map
+     */
+    @Benchmark
+    public MapController mapController() {
+        final MapController controller = new MapController();
+        controller.getColumn(0);
+        return controller;
+    }
+
+    /**
+     * Converts the raw data of a single stage into columns.
+     *
+     * @return the columns of the stage
+     */
+    @Benchmark
+    public List<MapColumn> convertDataToMapStage() {
+        return new StageGenerator(new PairImpl<>(MapStageFactoryImpl.STARTER_CEILING_HEIGHT,
+                MapStageFactoryImpl.STARTER_FLOOR_HEIGHT))
+                .convertDataToMapStage(this.stage, Constants.SPRITE_PER_STAGE_WIDTH);
+    }
+}
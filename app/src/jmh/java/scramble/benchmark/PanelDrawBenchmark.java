@@ -0,0 +1,96 @@
+package scramble.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.model.world.GameWorld;
+import scramble.model.world.InputButton;
+import scramble.model.world.InputFrame;
+import scramble.model.world.RenderSnapshot;
+import scramble.utility.Constants;
+import scramble.view.compact.BackgroundPanel;
+import scramble.view.compact.BulletsPanel;
+import scramble.view.compact.FrameSource;
+import scramble.view.compact.FuelTankPanel;
+import scramble.view.compact.GamePanel;
+import scramble.view.compact.HUDPanel;
+import scramble.view.compact.LandscapePanel;
+import scramble.view.compact.RocketPanel;
+import scramble.view.compact.SpaceShipPanel;
+
+/**
+ * Benchmarks of the drawing of every game panel on an offscreen image, with a
+ * world that has been running for a while.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PanelDrawBenchmark {
+
+    private static final int WARM_UP_TICKS = 600;
+    private static final int SHOT_PERIOD = 8;
+
+    /** The panel to draw. */
+    @Param({ "background", "landscape", "spaceship", "bullets", "rockets", "fuelTanks", "hud" })
+    public String panel;
+
+    private GamePanel gamePanel;
+    private BufferedImage image;
+
+    /** Runs the world for some ticks and builds the panel. */
+    @Setup
+    public void setUp() {
+        final GameWorld world = new GameWorld();
+        final InputFrame shoot = InputFrame.of(InputButton.SHOOT, InputButton.BOMB);
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            world.step(i % SHOT_PERIOD == 0 ? shoot : InputFrame.EMPTY);
+        }
+        final RenderSnapshot snapshot = new RenderSnapshot();
+        world.capture(snapshot);
+        final FrameSource frames = FrameSource.of(snapshot);
+        this.gamePanel = switch (this.panel) {
+            case "background" -> new BackgroundPanel();
+            case "landscape" -> new LandscapePanel(frames);
+            case "spaceship" -> new SpaceShipPanel(frames);
+            case "bullets" -> new BulletsPanel(frames);
+            case "rockets" -> new RocketPanel(frames);
+            case "fuelTanks" -> new FuelTankPanel(frames);
+            case "hud" -> new HUDPanel(frames);
+            default -> throw new IllegalArgumentException("Unknown panel: " + this.panel);
+        };
+        this.gamePanel.setSize(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        this.image = new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Draws the panel, as the game canvas does every frame.
+     *
+     * @return the image drawn on
+     */
+    @Benchmark
+    public BufferedImage drawPanel() {
+        final Graphics2D g = this.image.createGraphics();
+        try {
+            this.gamePanel.drawLayer(g);
+        } finally {
+            g.dispose();
+        }
+        return this.image;
+    }
+}
@@ -0,0 +1,97 @@
+package scramble.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.model.common.impl.RandomServiceImpl;
+import scramble.model.replay.InputLog;
+import scramble.model.replay.InputRecorder;
+import scramble.model.replay.ReplayPlayer;
+import scramble.model.world.GameWorld;
+import scramble.model.world.InputButton;
+import scramble.model.world.InputFrame;
+import scramble.model.world.TickScheduler;
+
+/**
+ * Benchmarks of a whole recorded game, replayed as fast as possible. The game
+ * is read from the file of the parameter {@code log}, like one saved with
+ * {@code -Dscramble.record}, or else a scripted one is recorded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReplayBenchmark {
+
+    private static final long SEED = 1981;
+    private static final int TICKS = 5000;
+    private static final int SHOT_PERIOD = 7;
+    private static final int TURN_PERIOD = 90;
+
+    /** The file of the recorded game, empty for the scripted one. */
+    @Param({ "" })
+    public String log;
+
+    /** The scheduler of the systems of a tick. */
+    @Param({ "sequential", "parallel" })
+    public String scheduler;
+
+    private InputLog inputLog;
+
+    /**
+     * Reads or records the game to replay.
+     *
+     * @throws IOException if the file of the game cannot be read
+     */
+    @Setup
+    public void setUp() throws IOException {
+        if (this.log.isEmpty()) {
+            final InputRecorder recorder = new InputRecorder(new GameWorld(new RandomServiceImpl(SEED)));
+            for (int i = 0; i < TICKS; i++) {
+                final InputButton direction = i / TURN_PERIOD % 2 == 0 ? InputButton.DOWN : InputButton.UP;
+                recorder.step(i % SHOT_PERIOD == 0
+                        ? InputFrame.of(direction, InputButton.SHOOT, InputButton.BOMB)
+                        : InputFrame.of(direction));
+            }
+            this.inputLog = recorder.getLog();
+        } else {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(this.log)))) {
+                this.inputLog = InputLog.readFrom(in);
+            }
+        }
+    }
+
+    /**
+     * Replays the whole game on a new world.
+     *
+     * @return the checksum of the world at the end of the game
+     */
+    @Benchmark
+    public long replay() {
+        final ReplayPlayer player = new ReplayPlayer(this.inputLog,
+                "parallel".equals(this.scheduler) ? new TickScheduler() : TickScheduler.sequential());
+        player.runToEnd();
+        if (player.getDesyncTick() >= 0) {
+            throw new IllegalStateException("Replay out of sync at tick " + player.getDesyncTick());
+        }
+        return player.getWorld().checksum();
+    }
+}
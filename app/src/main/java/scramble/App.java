@@ -4,6 +4,7 @@
 package scramble;
 
 import scramble.controller.input.InputControl;
+import scramble.model.common.util.AssetRegistry;
 import scramble.view.compact.GameView;
 
 /**
@@ -28,6 +29,7 @@ public class App {
      */
     public static void main(final String[] args) {
 
+        AssetRegistry.preload();
         final GameView gameView = new GameView();
         gameView.setupGameView();
         final InputControl controller = new InputControl(gameView);
@@ -3,20 +3,27 @@ package scramble.controller.input;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 
-import scramble.model.spaceship.Directions;
-import scramble.controller.command.impl.BulletCommand;
-import scramble.controller.command.impl.SpaceShipCommand;
-import scramble.model.bullets.BulletType;
+import scramble.controller.loop.GameLoop;
+import scramble.model.world.InputButton;
+import scramble.model.world.InputFrame;
 import scramble.view.compact.GameView;
 
 /**
  * Implementation of InputControl. Extends KeyAdapter in order to get the
  * necessary key bindings.
+ *
+ * <p>
+ * Key events do not touch the game, they only record which buttons are
+ * pressed. The {@link scramble.controller.mediator.LogicController} samples
+ * them as an {@link InputFrame} once per tick of the {@link GameLoop}.
+ * </p>
  */
 public class InputControl extends KeyAdapter {
 
-    private static boolean explPause;
     private final GameView gameView;
+    private final GameLoop gameLoop;
+    private int heldButtons;
+    private int pressedButtons;
 
     /**
      * Class constructor.
@@ -25,35 +32,22 @@ public class InputControl extends KeyAdapter {
      */
     public InputControl(final GameView gameView) {
         this.gameView = new GameView(gameView);
+        this.gameLoop = this.gameView.getGameLoop();
+        this.gameView.getLogicController().setInputSource(this::nextFrame);
     }
 
     /** {@inheritDoc} */
     @Override
     public void keyPressed(final KeyEvent e) {
-        if (!gameView.getSpaceshipPanel().getSpaceship().isHit()) {
-            final int key = e.getKeyCode();
-            switch (key) {
-                case KeyEvent.VK_UP ->
-                    gameView.getSpaceshipPanel().sendCommand(
-                            new SpaceShipCommand(gameView.getSpaceshipPanel(), Directions.UP));
-                case KeyEvent.VK_DOWN ->
-                    gameView.getSpaceshipPanel().sendCommand(
-                            new SpaceShipCommand(gameView.getSpaceshipPanel(), Directions.DOWN));
-                case KeyEvent.VK_LEFT ->
-                    gameView.getSpaceshipPanel().sendCommand(
-                            new SpaceShipCommand(gameView.getSpaceshipPanel(), Directions.LEFT));
-                case KeyEvent.VK_RIGHT ->
-                    gameView.getSpaceshipPanel().sendCommand(
-                            new SpaceShipCommand(gameView.getSpaceshipPanel(), Directions.RIGHT));
-                case KeyEvent.VK_SPACE -> gameView.getBulletsPanel()
-                        .sendCommandBullet(new BulletCommand(gameView.getBulletsPanel(),
-                                BulletType.TYPE_HORIZONTAL, gameView.getSpaceshipPanel().getSpaceship()));
-                case KeyEvent.VK_1 -> gameView.getBulletsPanel()
-                        .sendCommandBullet(new BulletCommand(gameView.getBulletsPanel(),
-                                BulletType.TYPE_BOMB, gameView.getSpaceshipPanel().getSpaceship()));
-                default -> {
-                    break;
-                }
+        switch (e.getKeyCode()) {
+            case KeyEvent.VK_UP -> hold(InputButton.UP);
+            case KeyEvent.VK_DOWN -> hold(InputButton.DOWN);
+            case KeyEvent.VK_LEFT -> hold(InputButton.LEFT);
+            case KeyEvent.VK_RIGHT -> hold(InputButton.RIGHT);
+            case KeyEvent.VK_SPACE -> press(InputButton.SHOOT);
+            case KeyEvent.VK_1 -> press(InputButton.BOMB);
+            default -> {
+                break;
             }
         }
     }
@@ -62,44 +56,43 @@ public class InputControl extends KeyAdapter {
     @Override
     public void keyReleased(final KeyEvent e) {
         switch (e.getKeyCode()) {
-            case KeyEvent.VK_UP:
-                gameView.getSpaceshipPanel().getSpaceship().setAbove(false);
-                break;
-            case KeyEvent.VK_DOWN:
-                gameView.getSpaceshipPanel().getSpaceship().setDown(false);
-                break;
-            case KeyEvent.VK_RIGHT:
-                gameView.getSpaceshipPanel().getSpaceship().setRight(false);
-                break;
-            case KeyEvent.VK_LEFT:
-                gameView.getSpaceshipPanel().getSpaceship().setLeft(false);
-                break;
-            case KeyEvent.VK_ENTER:
+            case KeyEvent.VK_UP -> release(InputButton.UP);
+            case KeyEvent.VK_DOWN -> release(InputButton.DOWN);
+            case KeyEvent.VK_RIGHT -> release(InputButton.RIGHT);
+            case KeyEvent.VK_LEFT -> release(InputButton.LEFT);
+            case KeyEvent.VK_ENTER -> {
                 if (!gameView.getGameOverPanel().isOverlayOn() && gameView.getMainPanel().getComponentCount() == 2) {
-                    gameView.startRepaintTimer();
-                    gameView.startGame();
-                    break;
+                    gameLoop.enqueue(gameView::startGame);
                 }
-            default:
+            }
+            default -> {
+                break;
+            }
         }
     }
 
     /**
-     * Getter for explosion pause state.
+     * Returns the buttons pressed since the previous call. Shots are reported
+     * only once for every key press.
      *
-     * @return true if paused
+     * @return the input for the next tick
      */
-    public static boolean isExplPause() {
-        return explPause;
+    public InputFrame nextFrame() {
+        final InputFrame frame = new InputFrame(this.heldButtons | this.pressedButtons);
+        this.pressedButtons = 0;
+        return frame;
     }
 
-    /**
-     * Setter for the boolean describing pause state.
-     *
-     * @param bool the new value
-     */
-    public static void setPaused(final boolean bool) {
-        explPause = bool;
+    private void hold(final InputButton button) {
+        this.heldButtons |= button.mask();
+    }
+
+    private void release(final InputButton button) {
+        this.heldButtons &= ~button.mask();
+    }
+
+    private void press(final InputButton button) {
+        this.pressedButtons |= button.mask();
     }
 
 }
@@ -0,0 +1,176 @@
+package scramble.controller.loop;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.Timer;
+
+import scramble.controller.command.api.Command;
+import scramble.model.world.GameWorld;
+import scramble.utility.Constants;
+
+/**
+ * The {@code GameLoop} is the single engine that drives the whole game.
+ *
+ * <p>
+ * The simulation advances with a fixed tick of {@link Constants#GAME_TICK_MS}
+ * milliseconds; every tick runs the {@link TickPhase phases} in order, so
+ * that every collision check sees the elements after they all moved. A single
+ * frame timer measures the elapsed wall clock time and runs as many ticks as
+ * needed to catch up, up to {@link Constants#MAX_CATCH_UP_TICKS}; the rest
+ * of the backlog is skipped. The {@link TickPhase#RENDER} phase is then run
+ * once per frame.
+ * </p>
+ */
+public class GameLoop {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(Constants.GAME_TICK_MS);
+
+    private final Map<TickPhase, List<Subscription>> subscriptions;
+    private final Queue<Command> pendingCommands;
+    private final Timer frameTimer;
+
+    private long lastFrameNanos;
+    private long accumulatedNanos;
+    private long tickCount;
+
+    /**
+     * Constructor of the class {@code GameLoop}. The loop is created stopped.
+     */
+    public GameLoop() {
+        this.subscriptions = new EnumMap<>(TickPhase.class);
+        for (final TickPhase phase : TickPhase.values()) {
+            this.subscriptions.put(phase, new ArrayList<>());
+        }
+        this.pendingCommands = new ArrayDeque<>();
+        this.frameTimer = new Timer(Constants.GAME_TICK_MS, e -> this.frame());
+        this.frameTimer.setCoalesce(true);
+    }
+
+    /**
+     * Registers a periodic task on the loop. The returned {@link Subscription}
+     * is stopped and has to be started.
+     *
+     * @param phase    the phase in which the task is executed
+     * @param periodMs the period of the task in milliseconds, rounded to the
+     *                 nearest number of ticks
+     * @param task     the task to execute
+     * @return the {@link Subscription} of the task
+     */
+    public Subscription subscribe(final TickPhase phase, final int periodMs, final Runnable task) {
+        final Subscription subscription = new Subscription(task, GameWorld.toTicks(periodMs), true);
+        this.subscriptions.get(phase).add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Registers a task that is executed only once after the specified delay.
+     * The returned {@link Subscription} is already started.
+     *
+     * @param phase   the phase in which the task is executed
+     * @param delayMs the delay in milliseconds, rounded to the nearest number of
+     *                ticks
+     * @param task    the task to execute
+     * @return the {@link Subscription} of the task
+     */
+    public Subscription schedule(final TickPhase phase, final int delayMs, final Runnable task) {
+        final Subscription subscription = new Subscription(task, GameWorld.toTicks(delayMs), false);
+        subscription.start();
+        this.subscriptions.get(phase).add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Queues a player {@link Command} that will be executed in the
+     * {@link TickPhase#INPUT} phase of the next tick.
+     *
+     * @param command the command
+     */
+    public void enqueue(final Command command) {
+        this.pendingCommands.add(command);
+    }
+
+    /** Starts the frame timer of the loop. */
+    public void start() {
+        this.lastFrameNanos = System.nanoTime();
+        this.accumulatedNanos = 0;
+        this.frameTimer.start();
+    }
+
+    /** Stops the frame timer of the loop. */
+    public void stop() {
+        this.frameTimer.stop();
+    }
+
+    /**
+     * Tells if the loop is running.
+     *
+     * @return {@code true} if the frame timer is running
+     */
+    public boolean isRunning() {
+        return this.frameTimer.isRunning();
+    }
+
+    /**
+     * Getter for the number of simulation ticks executed since the creation of
+     * the loop.
+     *
+     * @return the number of ticks
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    /**
+     * Executes a single simulation tick, that is every phase except
+     * {@link TickPhase#RENDER}.
+     */
+    public void tick() {
+        while (!this.pendingCommands.isEmpty()) {
+            this.pendingCommands.poll().execute();
+        }
+        for (final TickPhase phase : TickPhase.values()) {
+            if (phase != TickPhase.RENDER) {
+                this.runPhase(phase);
+            }
+        }
+        this.tickCount++;
+    }
+
+    /** Executes the {@link TickPhase#RENDER} phase. */
+    public void render() {
+        this.runPhase(TickPhase.RENDER);
+    }
+
+    private void frame() {
+        final long now = System.nanoTime();
+        this.accumulatedNanos += now - this.lastFrameNanos;
+        this.lastFrameNanos = now;
+
+        int ticks = 0;
+        while (this.accumulatedNanos >= TICK_NANOS && ticks < Constants.MAX_CATCH_UP_TICKS) {
+            this.tick();
+            this.accumulatedNanos -= TICK_NANOS;
+            ticks++;
+        }
+        if (this.accumulatedNanos >= TICK_NANOS) {
+            // the backlog is too long to be recovered, it is skipped
+            this.accumulatedNanos = 0;
+        }
+        this.render();
+    }
+
+    private void runPhase(final TickPhase phase) {
+        final List<Subscription> phaseSubscriptions = this.subscriptions.get(phase);
+        // index based loop, tasks can register new subscriptions while running
+        for (int i = 0; i < phaseSubscriptions.size(); i++) {
+            phaseSubscriptions.get(i).tick();
+        }
+        phaseSubscriptions.removeIf(Subscription::isCancelled);
+    }
+}
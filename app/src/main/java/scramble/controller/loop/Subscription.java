@@ -0,0 +1,107 @@
+package scramble.controller.loop;
+
+/**
+ * A {@code Subscription} is a task registered on the {@link GameLoop} that is
+ * executed every {@code period} ticks of its {@link TickPhase}.
+ *
+ * <p>
+ * It replaces the old per-panel {@code javax.swing.Timer}: it can be started,
+ * stopped and restarted with the same semantics, but it never runs outside of
+ * the loop.
+ * </p>
+ */
+public final class Subscription {
+
+    private final Runnable task;
+    private final int period;
+    private final boolean repeats;
+
+    private int countdown;
+    private boolean active;
+    private boolean cancelled;
+
+    /**
+     * Constructor of the class {@code Subscription}.
+     *
+     * @param task    the task to execute
+     * @param period  number of ticks between two executions of the task
+     * @param repeats {@code false} if the task has to be executed only once
+     */
+    Subscription(final Runnable task, final int period, final boolean repeats) {
+        this.task = task;
+        this.period = Math.max(1, period);
+        this.repeats = repeats;
+        this.countdown = this.period;
+    }
+
+    /**
+     * Starts the subscription. The first execution happens after a full period.
+     * If the subscription is already active nothing changes.
+     */
+    public void start() {
+        if (!this.active) {
+            this.countdown = this.period;
+            this.active = true;
+        }
+    }
+
+    /** Stops the subscription, which keeps its registration on the loop. */
+    public void stop() {
+        this.active = false;
+    }
+
+    /** Restarts the subscription, the next execution happens after a full period. */
+    public void restart() {
+        this.countdown = this.period;
+        this.active = true;
+    }
+
+    /** Stops the subscription and removes it from the loop. */
+    public void cancel() {
+        this.active = false;
+        this.cancelled = true;
+    }
+
+    /**
+     * Tells if the subscription is currently active.
+     *
+     * @return {@code true} if the task is being executed
+     */
+    public boolean isActive() {
+        return this.active;
+    }
+
+    /**
+     * Getter for the period of the subscription.
+     *
+     * @return the number of ticks between two executions
+     */
+    public int getPeriod() {
+        return this.period;
+    }
+
+    /**
+     * Tells if the subscription has to be removed from the loop.
+     *
+     * @return {@code true} if it has been cancelled or it was a one-shot task
+     *         already executed
+     */
+    boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /** Advances the subscription of a tick, running the task when it is due. */
+    void tick() {
+        if (!this.active) {
+            return;
+        }
+        this.countdown--;
+        if (this.countdown <= 0) {
+            this.countdown = this.period;
+            if (!this.repeats) {
+                this.cancel();
+            }
+            this.task.run();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package scramble.controller.loop;
+
+/**
+ * Enum that describes the phases of a single iteration of the
+ * {@link GameLoop}. Phases are always executed in declaration order.
+ */
+public enum TickPhase {
+    /**
+     * Player commands received since the previous tick are applied.
+     */
+    INPUT,
+    /**
+     * Every game element is moved.
+     */
+    MOVEMENT,
+    /**
+     * New game elements enter the screen.
+     */
+    SPAWN,
+    /**
+     * Collisions between the moved game elements are checked.
+     */
+    COLLISION,
+    /**
+     * Score, fuel and game rules are updated.
+     */
+    SCORING,
+    /**
+     * The view is repainted. This phase runs once per frame, after all the
+     * simulation ticks of that frame.
+     */
+    RENDER;
+}
@@ -2,16 +2,27 @@ package scramble.controller.map;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 import scramble.model.common.api.Pair;
+import scramble.model.common.api.RandomService;
 import scramble.model.common.impl.PairImpl;
+import scramble.model.common.impl.RandomServiceImpl;
 import scramble.model.map.api.MapColumn;
 import scramble.model.map.api.MapStageFactory;
+import scramble.model.map.api.TerrainIndex;
 import scramble.model.map.impl.MapStageFactoryImpl;
+import scramble.model.map.impl.TerrainIndexImpl;
 import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.LandsDataLoader;
+import scramble.model.map.util.elaborator.StageGenerator;
 import scramble.model.map.util.enums.LandBehaviour;
-import scramble.view.compact.GameView;
-import scramble.view.compact.LandscapePanel;
+import scramble.model.map.util.raw.RawData;
+import scramble.utility.Constants;
 
 /**
  * The {@code MapController} class is responsible for the preparation of data
@@ -23,60 +34,108 @@ import scramble.view.compact.LandscapePanel;
  * making sure it is ready for display.
  * </p>
  *
+ * <p>
+ * Only the stages around the current position are ever generated, and only
+ * their columns are kept in memory. Every stage has its own seed and its own
+ * starting heights, computed without building any column, so it can be
+ * generated on a background thread before it is reached, dropped once it is
+ * left behind and generated again, identical, when the map is reset to it.
+ * The spawn positions of the whole map are collected from the same heights
+ * when the controller is built, and the terrain index is filled with the
+ * columns of a stage when the stage is generated.
+ * </p>
+ *
  * @see MapStageFactory
  */
 public class MapController {
-    private static final MapStageFactory<MapColumn> STAGE_FACTORY = new MapStageFactoryImpl();
-    private static List<Integer> stageStartingX = new ArrayList<>();
-    private static List<Pair<Integer, Integer>> flatPositions = new ArrayList<>();
-    private static List<Pair<Integer, Integer>> brickWallPosition = new ArrayList<>();
-    private static int endOfMapX;
-
-    private final List<MapColumn> columns;
-    private int columnIndex;
-    private int currentX;
-    private static final int CHECKPOINT_OFFSET_X = GameView.WINDOW_WIDTH / 2;
+    private static final List<Supplier<RawData>> STAGE_DATA = List.of(
+            LandsDataLoader::getPrestageData,
+            LandsDataLoader::getStage1Data,
+            LandsDataLoader::getStage2Data,
+            LandsDataLoader::getStage3Data,
+            LandsDataLoader::getStage4Data,
+            LandsDataLoader::getStage5Data,
+            LandsDataLoader::getStage6Data);
+    private static final int STAGES_BEHIND = 1;
+    private static final int STAGES_AHEAD = 1;
+    private static final ExecutorService GENERATOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), task -> {
+                final Thread thread = new Thread(task, "map-generator");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final List<RawData> rawData;
+    private final List<Pair<Integer, Integer>> startingHeights;
+    private final long[] seeds;
+    private final int[] firstColumns;
+    private final List<CompletableFuture<List<MapColumn>>> window;
+    private final TerrainIndexImpl terrainIndex;
+    private final List<Integer> stageStartingX;
+    private final List<Pair<Integer, Integer>> flatPositions;
+    private final List<Pair<Integer, Integer>> brickWallPosition;
+    private int endOfMapX;
+    private int currentStage;
+    private static final int CHECKPOINT_OFFSET_X = Constants.WINDOW_WIDTH / 2;
 
     /**
      * Controller for the class {@link MapController}.
      */
     public MapController() {
-        final List<List<MapColumn>> stages = this.fillStage();
-        this.columnIndex = 0;
-        this.columns = new ArrayList<>();
-        this.fillColumns(stages);
-        this.currentX = 0;
+        this(new RandomServiceImpl());
     }
 
     /**
-     * Return the columns that have to be displayed. For optimization purpose, only
-     * a fiew columns will be returned.
-     * <p>
-     * The number of returned columns is defined by
-     * {@link LandscapePanel#TOTAL_COLUMNS_LOADED}.
-     * </p>
+     * Controller for the class {@link MapController}, whose map is always the
+     * same for the same seed of the random service.
      *
-     * @return a list of columns
+     * @param randomService the source of the seeds of the stages
      */
-    public List<MapColumn> getColumnsToDisplay() {
-        final List<MapColumn> columnsToDisplay = new ArrayList<>();
-        final int end;
-        if (columnIndex + LandscapePanel.TOTAL_COLUMNS_LOADED >= columns.size()) {
-            end = columnIndex + LandscapePanel.TOTAL_COLUMNS_LOADED - columns.size();
-        } else {
-            end = LandscapePanel.TOTAL_COLUMNS_LOADED;
+    public MapController(final RandomService randomService) {
+        final int stages = STAGE_DATA.size();
+        final RandomGenerator random = randomService.stream("map");
+        final StageGenerator planner = new StageGenerator(new PairImpl<>(
+                MapStageFactoryImpl.STARTER_CEILING_HEIGHT, MapStageFactoryImpl.STARTER_FLOOR_HEIGHT),
+                random.nextLong());
+        this.rawData = new ArrayList<>();
+        this.startingHeights = new ArrayList<>();
+        this.seeds = new long[stages];
+        this.firstColumns = new int[stages + 1];
+        this.stageStartingX = new ArrayList<>();
+        this.flatPositions = new ArrayList<>();
+        this.brickWallPosition = new ArrayList<>();
+        this.window = new ArrayList<>();
+        for (int stage = 0; stage < stages; stage++) {
+            final List<Pair<LandBehaviour, Integer>> floors = new ArrayList<>();
+            this.rawData.add(STAGE_DATA.get(stage).get());
+            this.startingHeights.add(planner.getCurrentHeights());
+            this.seeds[stage] = random.nextLong();
+            this.firstColumns[stage + 1] = this.firstColumns[stage]
+                    + planner.skipStage(this.rawData.get(stage), getStageLength(stage), floors);
+            this.addSpawnPositions(stage, floors);
+            this.window.add(null);
         }
-        for (int i = 0; i < end; i++) {
-            columnsToDisplay.add(columns.get(this.columnIndex + i));
+        this.endOfMapX = this.getMapSize() * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE - Constants.WINDOW_WIDTH / 2;
+        this.terrainIndex = new TerrainIndexImpl(this.getMapSize());
+        this.slideWindow(0);
+    }
+
+    /**
+     * Returns a column of the map. The columns of the stages near it are
+     * generated in background and the stages far from it are dropped, so the
+     * columns should be read moving forward, as the landscape does.
+     *
+     * @param index the index of the column in the map
+     * @return the column
+     */
+    public MapColumn getColumn(final int index) {
+        final int stage = this.getStageOf(index);
+        if (stage != this.currentStage) {
+            this.slideWindow(stage);
         }
-        this.currentX = columns.get(columnIndex).getX();
-        this.columnIndex += LandscapePanel.EXTRA_COLUMNS_LOADED;
-        if (this.columnIndex + LandUtils.dividePixelPerSprite(GameView.WINDOW_WIDTH)
-                + 4 > this.columns
-                        .size()) {
-            this.columnIndex = 0;
+        if (this.window.get(stage) == null) {
+            this.window.set(stage, CompletableFuture.completedFuture(this.generateStage(stage)));
         }
-        return columnsToDisplay;
+        return this.window.get(stage).join().get(index - this.firstColumns[stage]);
     }
 
     /**
@@ -85,7 +144,7 @@ public class MapController {
      * @param x position to reset the Landscape
      */
     public void resetToX(final int x) {
-        this.columnIndex = x / LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+        this.slideWindow(this.getStageOf(x / LandUtils.PIXEL_PER_LAND_SPRITE_SIDE));
     }
 
     /**
@@ -94,8 +153,8 @@ public class MapController {
      *
      * @return the list with all the starter x position of each stage
      */
-    public static List<Integer> getStageStartingX() {
-        return new ArrayList<>(stageStartingX);
+    public List<Integer> getStageStartingX() {
+        return new ArrayList<>(this.stageStartingX);
     }
 
     /**
@@ -104,7 +163,7 @@ public class MapController {
      * @return the flat floor position
      */
     public List<Pair<Integer, Integer>> getFlatFloorPositions() {
-        return new ArrayList<>(flatPositions);
+        return new ArrayList<>(this.flatPositions);
     }
 
     /**
@@ -113,25 +172,25 @@ public class MapController {
      * @return the flat floor position
      */
     public List<Pair<Integer, Integer>> getBrickFloorPosition() {
-        return new ArrayList<>(brickWallPosition);
+        return new ArrayList<>(this.brickWallPosition);
     }
 
     /**
-     * Getter for current X position.
+     * Getter for the x coordinate of the end of the map.
      * 
-     * @return the current x position
+     * @return x coordinate of the end of the map
      */
-    public int getCurrentMapX() {
-        return currentX;
+    public int getEndOfMapX() {
+        return this.endOfMapX - Constants.WINDOW_WIDTH / 2;
     }
 
     /**
-     * Getter for the x coordinate of the end of the map.
-     * 
-     * @return x coordinate of the end of the map
+     * Getter for the collision index of the terrain of the whole map.
+     *
+     * @return the terrain index
      */
-    public static int getEndOfMapX() {
-        return endOfMapX - GameView.WINDOW_WIDTH / 2;
+    public TerrainIndex getTerrainIndex() {
+        return this.terrainIndex;
     }
 
     /**
@@ -140,40 +199,63 @@ public class MapController {
      * @return the number of columns in this controller
      */
     public int getMapSize() {
-        return this.columns.size();
+        return this.firstColumns[this.firstColumns.length - 1];
     }
 
-    private List<List<MapColumn>> fillStage() {
-        final List<List<MapColumn>> stages = new ArrayList<>();
-        stages.add(STAGE_FACTORY.prestage());
-        stages.add(STAGE_FACTORY.stage1());
-        stages.add(STAGE_FACTORY.stage2());
-        stages.add(STAGE_FACTORY.stage3());
-        stages.add(STAGE_FACTORY.stage4());
-        stages.add(STAGE_FACTORY.stage5());
-        stages.add(STAGE_FACTORY.stage6());
-        return stages;
+    /**
+     * Collects the start of a stage and the positions where the entities can
+     * spawn on its floor.
+     */
+    private void addSpawnPositions(final int stage, final List<Pair<LandBehaviour, Integer>> floors) {
+        this.stageStartingX.add(this.firstColumns[stage] * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE - CHECKPOINT_OFFSET_X);
+        for (int i = 0; i < floors.size(); i++) {
+            final int x = (this.firstColumns[stage] + i) * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+            final LandBehaviour behaviour = floors.get(i).getFirstElement();
+            if (behaviour == LandBehaviour.FLAT && stage > 0) {
+                this.flatPositions.add(new PairImpl<>(x, floors.get(i).getSecondElement()));
+            }
+            if (behaviour == LandBehaviour.BRICK) {
+                this.brickWallPosition.add(new PairImpl<>(x, floors.get(i).getSecondElement()));
+            }
+        }
+    }
+
+    private List<MapColumn> generateStage(final int stage) {
+        final List<MapColumn> columns = new StageGenerator(this.startingHeights.get(stage), this.seeds[stage])
+                .convertDataToMapStage(this.rawData.get(stage), getStageLength(stage));
+        for (int i = 0; i < columns.size(); i++) {
+            final MapColumn column = columns.get(i);
+            column.updateX((this.firstColumns[stage] + i) * column.gettWidth());
+            this.terrainIndex.add(column);
+        }
+        return columns;
     }
 
-    private void fillColumns(final List<List<MapColumn>> stages) {
-        int x = 0;
-        for (final List<MapColumn> mapStage : stages) {
-            stageStartingX.add(x * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE - CHECKPOINT_OFFSET_X);
-            for (final MapColumn column : mapStage) {
-                column.updateX(x * column.gettWidth());
-                this.columns.add(column);
-                if (column.getFloorBehaviour() == LandBehaviour.FLAT && stageStartingX.size() > 1) {
-                    flatPositions.add(new PairImpl<>(x * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
-                            column.getFloorPosition().getSecondElement()));
-                }
-                if (column.getFloorBehaviour() == LandBehaviour.BRICK) {
-                    brickWallPosition.add(new PairImpl<>(x * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
-                            column.getFloorPosition().getSecondElement()));
-                }
-                x++;
+    /**
+     * Starts generating the stages near the given one and drops the others.
+     */
+    private void slideWindow(final int current) {
+        this.currentStage = current;
+        for (int stage = 0; stage < this.window.size(); stage++) {
+            if (stage < current - STAGES_BEHIND || stage > current + STAGES_AHEAD) {
+                this.window.set(stage, null);
+            } else if (this.window.get(stage) == null) {
+                final int toGenerate = stage;
+                this.window.set(stage, CompletableFuture.supplyAsync(() -> this.generateStage(toGenerate), GENERATOR));
             }
         }
-        endOfMapX = x * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE - GameView.WINDOW_WIDTH / 2;
+    }
+
+    private int getStageOf(final int index) {
+        int stage = 0;
+        while (stage < this.window.size() - 1 && index >= this.firstColumns[stage + 1]) {
+            stage++;
+        }
+        return stage;
+    }
+
+    private static int getStageLength(final int stage) {
+        return stage == 0 ? Constants.SPRITE_PER_PRESTAGE_WIDTH : Constants.SPRITE_PER_STAGE_WIDTH;
     }
 
 }
@@ -1,43 +1,57 @@
 package scramble.controller.mediator;
 
-import java.awt.event.ActionEvent;
-import javax.swing.Timer;
-
-import java.awt.event.ActionListener;
-import java.util.ArrayList;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
-
-import scramble.controller.input.InputControl;
-import scramble.controller.map.MapController;
-import scramble.model.bullets.Bullet;
-import scramble.model.bullets.BulletType;
-import scramble.model.common.impl.PairImpl;
-import scramble.model.enemy.Boss;
-import scramble.model.enemy.Rocket;
-import scramble.model.spaceship.FuelBar;
-import scramble.model.tank.FuelTank;
-import scramble.view.compact.FuelTankPanel;
-import scramble.view.compact.GameView;
-import scramble.view.compact.RocketPanel;
-import scramble.view.compact.SpaceShipPanel;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import scramble.controller.loop.GameLoop;
+import scramble.controller.loop.Subscription;
+import scramble.controller.loop.TickPhase;
+import scramble.model.common.api.TripleBuffer;
+import scramble.model.replay.InputRecorder;
+import scramble.model.world.GameWorld;
+import scramble.model.world.InputFrame;
+import scramble.model.world.RenderSnapshot;
 import scramble.utility.Constants;
+import scramble.view.compact.GameView;
 
 /**
- * This class handles the Collision on the map.
- * It implements the interface designed and uses game view to handle
- * the game elements.
+ * This class drives the {@link GameWorld} shown by the game view.
+ *
+ * <p>
+ * While a game is running, every tick of the {@link GameLoop} samples the
+ * input of the player, steps the world with it and publishes a snapshot of
+ * the world for the view. The rules of the game, collisions included, belong
+ * to the world: this class only reacts to the end of the game by switching the
+ * screens of the view.
+ * </p>
+ *
+ * <p>
+ * When the system property {@link #RECORD_PROPERTY} names a file, the input of
+ * every game is recorded and written to it when the game stops, to be played
+ * again by a {@link scramble.model.replay.ReplayPlayer}.
+ * </p>
  */
 public class LogicController {
 
-    private static int lives;
-    private static List<PairImpl<Integer, Integer>> checkPoints = new ArrayList<>();
-    private final SpaceShipPanel spaceShipPanel;
-    private final RocketPanel rocketPanel;
-    private final FuelTankPanel fuelTankPanel;
+    /** System property with the file the input of the last game is saved to. */
+    public static final String RECORD_PROPERTY = "scramble.record";
+
+    private static final Logger LOG = Logger.getLogger(LogicController.class.getName());
+
     private final GameView gameView;
-    private final Timer collisionTimer;
-    private final Timer fuelCheckTimer;
+    private final GameWorld gameWorld;
+    private final TripleBuffer<RenderSnapshot> frames;
+    private final List<Subscription> gameSubscriptions;
+    private Supplier<InputFrame> inputSource;
+    private InputFrame input;
+    private InputRecorder recorder;
 
     /**
      * Class constructor.
@@ -45,223 +59,81 @@ public class LogicController {
      * @param gameView the calling class
      */
     public LogicController(final GameView gameView) {
-        resetLives();
         this.gameView = new GameView(gameView);
-
-        this.spaceShipPanel = this.gameView.getSpaceshipPanel();
-        this.rocketPanel = this.gameView.getRocketPanel();
-        this.fuelTankPanel = this.gameView.getFuelTankPanel();
-        addCheckPoints();
-        fuelCheckTimer = new Timer(100, new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                finishedFuel(gameView.getHudPanel().getFuelBar());
-            }
-        });
-
-        collisionTimer = new Timer(16, new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-
-                touchedGround();
-                checkHorizontalBulletCollisions();
-                checkBombBulletCollisions();
-                touchedEnemy();
-                checkEnemyCeilingCollision();
-
-            }
-        });
-
-        fuelCheckTimer.start();
-        collisionTimer.start();
-    }
-
-    /**
-     * Getter for lives.
-     *
-     * @return number of lives remaining
-     */
-    public static int getLives() {
-        return lives;
-    }
-
-    /** Sets lives to MAX_LIVES in case game starts anew. */
-    public static void resetLives() {
-        lives = Constants.MAX_LIVES;
-    }
-
-    /** Starts collision timer. */
-    public void startCollisionTimer() {
-        collisionTimer.start();
-    }
-
-    /** Starts check fuel timer. */
-    public void startFuelCheckTimer() {
-        fuelCheckTimer.start();
-    }
-
-    /** Stops collision timer. */
-    public void stopCollisionTimer() {
-        collisionTimer.stop();
-    }
-
-    /** Stops check fuel timer. */
-    public void stopFuelCheckTimer() {
-        fuelCheckTimer.stop();
+        this.gameWorld = this.gameView.getGameWorld();
+        this.frames = this.gameView.getSnapshots();
+        this.inputSource = () -> InputFrame.EMPTY;
+        this.input = InputFrame.EMPTY;
+
+        final GameLoop gameLoop = this.gameView.getGameLoop();
+        this.gameSubscriptions = List.of(
+                gameLoop.subscribe(TickPhase.INPUT, Constants.GAME_TICK_MS,
+                        () -> this.input = this.inputSource.get()),
+                gameLoop.subscribe(TickPhase.MOVEMENT, Constants.GAME_TICK_MS, () -> {
+                    if (Objects.nonNull(this.recorder)) {
+                        this.recorder.step(this.input);
+                    } else {
+                        this.gameWorld.step(this.input);
+                    }
+                    this.publishFrame();
+                }),
+                gameLoop.subscribe(TickPhase.SCORING, Constants.GAME_TICK_MS, this::checkEndOfGame));
     }
 
     /**
-     * Getter for the list containing the checkpoint.
+     * Sets where the input of the player is sampled from at every tick.
      *
-     * @return the checkpoint list
+     * @param inputSource the source of the input
      */
-    public static List<PairImpl<Integer, Integer>> getCheckPoints() {
-        return new ArrayList<>(checkPoints);
+    public void setInputSource(final Supplier<InputFrame> inputSource) {
+        this.inputSource = inputSource;
     }
 
-    /* Check if a collision is happenning between landscape and spaceship. */
-    private void touchedGround() {
-        if (spaceShipPanel.getSpaceship().checkGroundCollision(gameView.getLandscapePanel().getColumns())) {
-            iteraction();
+    /** Starts a new game from the beginning of the map. */
+    public void startGame() {
+        this.gameWorld.reset();
+        if (Objects.nonNull(System.getProperty(RECORD_PROPERTY))) {
+            this.recorder = new InputRecorder(this.gameWorld);
         }
+        this.publishFrame();
+        this.gameSubscriptions.forEach(Subscription::start);
     }
 
-    /* Check if a collision is happening between enemy and spaceship */
-    private void touchedEnemy() {
-        if (spaceShipPanel.getSpaceship().checkEnemyCollision(rocketPanel.getRockets())) {
-            iteraction();
+    /** Stops stepping the world. */
+    public void stopGame() {
+        this.gameSubscriptions.forEach(Subscription::stop);
+        if (Objects.nonNull(this.recorder)) {
+            this.saveRecording(Path.of(System.getProperty(RECORD_PROPERTY)));
+            this.recorder = null;
         }
     }
 
-    /**
-     * Behaviour for case when fuel is depleted.
-     * 
-     * @param fuelBar the fuel bar.
-     */
-    private void finishedFuel(final FuelBar fuelBar) {
-        if (fuelBar.checkFuelZero()) {
-            iteraction();
-        }
-    }
-
-    private void timerLogic() {
-        gameView.stopAllPanelTimers();
-        InputControl.setPaused(true);
-        final Timer delayTimer = new Timer(3500, new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                startFuelCheckTimer();
-                startCollisionTimer();
-                InputControl.setPaused(false);
-                spaceShipPanel.getSpaceship().setHit(false);
-                if (isGameOver()) {
-                    gameView.setStart();
-                    resetLives();
-                } else {
-                    gameView.restartAllPanelTimers();
-                    lostLife();
-                    gameView.restartFromCheckPoint(gameView.returnToCheckPoint());
-                }
-                gameView.getRocketPanel().setMapX(gameView.getLandscapePanel().getCurrentMapX());
-                gameView.getRocketPanel().resetRockets();
-                gameView.getFuelTankPanel().setMapX(gameView.getLandscapePanel().getCurrentMapX());
-                gameView.getFuelTankPanel().resetTanks();
-            }
-        });
-        delayTimer.setRepeats(false);
-        delayTimer.start();
-    }
-
-    /** Decrement lives counter. */
-    private void lostLife() {
-        lives--;
-    }
-
-    /**
-     * Checks if game is over.
-     *
-     * @return true if lives are over
-     */
-    private boolean isGameOver() {
-        return lives == 0;
-    }
-
-    /** Adds checkpoints. */
-    private void addCheckPoints() {
-        for (int i = 0; i < Constants.MAX_STAGES + 1; i++) {
-            checkPoints.add(new PairImpl<>(MapController.getStageStartingX().get(i),
-                    Constants.CHECKPOINT_Y_POSITION));
+    private void saveRecording(final Path path) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            this.recorder.getLog().writeTo(out);
+        } catch (IOException e) {
+            LOG.severe("Failed to save the input of the game!");
+            LOG.severe(e.toString());
         }
     }
 
-    private void checkHorizontalBulletCollisions() {
-        final var bullets = gameView.getBulletsPanel();
-        final List<Bullet> bulletsToRemove = bullets.getBullets()
-                .stream()
-                .filter(bullet -> bullet.getType() == BulletType.TYPE_HORIZONTAL
-                        && (bullet.checkGroundCollision(gameView.getLandscapePanel().getColumns())
-                                || checkBulletEnemyCollision(bullet) || checkBulletTankCollision()))
-                .toList();
-        bullets.removeBullets(bulletsToRemove);
+    private void publishFrame() {
+        this.gameWorld.capture(this.frames.back());
+        this.frames.publish();
     }
 
-    private boolean checkBulletEnemyCollision(final Bullet bullet) {
-        for (final Rocket rocket : rocketPanel.getRockets()) {
-            if (rocket.checkSingleBullet(bullet)) {
-                rocket.setHit(true);
-                return true;
+    private void checkEndOfGame() {
+        switch (this.gameWorld.getState()) {
+            case GAME_OVER -> {
+                stopGame();
+                gameView.setStart();
             }
-        }
-        final Boss boss = rocketPanel.getBoss();
-        if (Objects.nonNull(boss) && boss.checkCollisionBullet(bullet)) {
-            boss.setHit(true);
-            return true;
-        }
-        return false;
-    }
-
-    private boolean checkEnemyCeilingCollision() {
-        final var rockets = gameView.getRocketPanel().getRockets();
-        for (final Rocket rocket : rockets) {
-            if (rocket.checkCollisionCeiling(gameView.getLandscapePanel().getCeilingElements())) {
-                rocket.setHit(true);
-                rocket.setCrashed(true);
-                return true;
+            case COMPLETED -> {
+                stopGame();
+                gameView.showGameOverScreen();
             }
-        }
-        return false;
-    }
-
-    private boolean checkBulletTankCollision() {
-        final var bullets = gameView.getBulletsPanel().getBullets();
-        for (final FuelTank tank : fuelTankPanel.getFuelTanks()) {
-            if (tank.checkCollisionBullet(bullets)) {
-                tank.setDestroyed(true);
-                return true;
+            default -> {
             }
         }
-        return false;
-    }
-
-    private void checkBombBulletCollisions() {
-        final var bullets = gameView.getBulletsPanel();
-        final List<Bullet> bulletsExploding = bullets.getBullets()
-                .stream()
-                .filter(bullet -> bullet.getType() == BulletType.TYPE_BOMB
-                        && (bullet.checkGroundCollision(gameView.getLandscapePanel().getColumns())
-                                || checkBulletEnemyCollision(bullet) || checkBulletTankCollision()))
-                .toList();
-        bullets.removeBullets(bulletsExploding);
-        bullets.addExplodingBullets(bulletsExploding);
-    }
-
-    private void iteraction() {
-
-        gameView.stopAllPanelTimers();
-        stopFuelCheckTimer();
-        stopCollisionTimer();
-        spaceShipPanel.getSpaceship().setHit(true);
-        timerLogic();
-
     }
 }
@@ -1,15 +1,13 @@
 package scramble.model.bullets;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Random;
-import java.util.ArrayList;
-import java.util.logging.Logger;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 
 import scramble.model.common.impl.GameElementImpl;
-import scramble.model.common.impl.PairImpl;
+import scramble.model.common.util.AssetRegistry;
+import scramble.model.common.util.enums.Asset;
+import scramble.model.map.api.TerrainIndex;
 import scramble.model.map.impl.MapElement;
 import scramble.utility.Constants;
 
@@ -19,8 +17,6 @@ import scramble.utility.Constants;
  */
 public class Bullet extends GameElementImpl {
 
-    private static final Logger LOG = Logger.getLogger(Bullet.class.getName());
-
     private final List<BufferedImage> sprites;
     private final List<BufferedImage> sprite;
     private final List<BufferedImage> explosionSprites;
@@ -43,50 +39,30 @@ public class Bullet extends GameElementImpl {
     public Bullet(final int x, final int y, final BulletType type) {
         super(x, y, Constants.BULLETS_SIZE_MAP.get(type).getFirstElement(),
                 Constants.BULLETS_SIZE_MAP.get(type).getSecondElement());
-        this.sprites = new ArrayList<>();
-        this.sprite = new ArrayList<>();
-        this.explosionSprites = new ArrayList<>();
         this.type = type;
+        this.sprite = type == BulletType.TYPE_HORIZONTAL ? AssetRegistry.getFrames(Asset.BULLET) : List.of();
+        this.sprites = type == BulletType.TYPE_BOMB ? AssetRegistry.getFrames(Asset.BOMB) : List.of();
+        this.explosionSprites = type == BulletType.TYPE_BOMB ? AssetRegistry.getFrames(Asset.BOMB_EXPLOSION)
+                : List.of();
+        this.hit = false;
 
-        switch (type) {
-            case TYPE_HORIZONTAL:
-                try {
-                    // Safe way to get resource
-                    sprite.add(ImageIO.read(Bullet.class.getResource("/bullets/bullet" + ".png")));
-                } catch (IOException e) {
-                    LOG.severe("Ops!");
-                    LOG.severe(e.toString());
-                }
-                break;
-
-            case TYPE_BOMB:
-                for (int i = 1; i <= Constants.SPRITE_NUMBER_BOMB; i++) {
-                    try {
-                        sprites.add(ImageIO.read(Bullet.class.getResource("/bomb/bomb" + i + ".png")));
-                    } catch (IOException e) {
-                        LOG.severe("Ops!");
-                        LOG.severe(e.toString());
-                    }
-                }
-
-                for (int i = 1; i <= Constants.SPRITE_NUMBER_BOMB_EXPLOSION; i++) {
-                    try {
-                        explosionSprites
-                                .add(ImageIO
-                                        .read(Bullet.class.getResource("/bomb/explosion/bomb_explodes" + i + ".png")));
-                    } catch (IOException e) {
-                        LOG.severe("Ops!");
-                        LOG.severe(e.toString());
-                    }
-                }
-
-                break;
+    }
 
-            default:
-                break;
-        }
+    /**
+     * Brings a bullet released to its pool back to the state of a new one, in a
+     * new position. The type of the bullet does not change.
+     *
+     * @param x starting position on the X axis
+     * @param y starting position on the Y axis
+     */
+    public void reset(final int x, final int y) {
+        moveTo(x, y);
+        savePosition();
+        this.animationComplete = false;
+        this.currentSpriteIndex = 0;
         this.hit = false;
-
+        this.xSpeed = 0;
+        this.ySpeed = 0;
     }
 
     /**
@@ -159,6 +135,22 @@ public class Bullet extends GameElementImpl {
         return false;
     }
 
+    /**
+     * Checks if the bullet is colliding with the terrain.
+     *
+     * @param terrain the terrain of the map
+     * @param mapX    the x coordinate of the map at the left border of the
+     *                screen
+     * @return true if it has touched the terrain
+     */
+    public boolean checkGroundCollision(final TerrainIndex terrain, final int mapX) {
+        if (terrain.hitsTerrain(x() + mapX, y(), width(), height())) {
+            hit = true;
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Returns randomised image for explosion animation.
      *
@@ -178,6 +170,27 @@ public class Bullet extends GameElementImpl {
         return hit;
     }
 
+    /**
+     * Moves the animation of a bomb to its next frame, it stops on the last one.
+     */
+    public void advanceFrame() {
+        if (currentSpriteIndex < Constants.SPRITE_NUMBER_BOMB - 1) {
+            currentSpriteIndex = currentSpriteIndex + 1;
+        } else {
+            animationComplete = true;
+        }
+    }
+
+    /**
+     * Getter for the frame of the animation of a bomb, always 0 for a
+     * horizontal bullet.
+     *
+     * @return the index of the frame
+     */
+    public int getFrame() {
+        return this.currentSpriteIndex;
+    }
+
     /**
      * Setter for hit, the boolean recording collision status.
      *
@@ -197,8 +210,7 @@ public class Bullet extends GameElementImpl {
     }
 
     private void move() {
-        updatePosition(new PairImpl<>(getPosition().getFirstElement() + xSpeed,
-                getPosition().getSecondElement() + ySpeed));
+        moveBy(xSpeed, ySpeed);
     }
 
     private BufferedImage getNextBombSprite() {
@@ -208,14 +220,7 @@ public class Bullet extends GameElementImpl {
         }
 
         final BufferedImage currentSprite = sprites.get(currentSpriteIndex);
-
-        // Update the current sprite index
-        if (currentSpriteIndex < Constants.SPRITE_NUMBER_BOMB - 1) {
-            currentSpriteIndex = currentSpriteIndex + 1;
-        } else {
-            animationComplete = true;
-        }
-
+        advanceFrame();
         return currentSprite;
     }
 
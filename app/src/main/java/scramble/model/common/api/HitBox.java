@@ -31,4 +31,44 @@ public interface HitBox {
      * @return the hitbox
      */
     Rectangle getHitBox();
+
+    /**
+     * Checks if the hitbox shares some area with a box. Unlike
+     * {@link #getHitBox()}, it does not create any object.
+     *
+     * @param x      the x coordinate of the box
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return true if the hitbox and the box intersect
+     */
+    boolean intersects(int x, int y, int width, int height);
+
+    /**
+     * Getter for the x coordinate of the hitbox.
+     *
+     * @return the x coordinate
+     */
+    int x();
+
+    /**
+     * Getter for the y coordinate of the hitbox.
+     *
+     * @return the y coordinate
+     */
+    int y();
+
+    /**
+     * Getter for the width of the hitbox.
+     *
+     * @return the width
+     */
+    int width();
+
+    /**
+     * Getter for the height of the hitbox.
+     *
+     * @return the height
+     */
+    int height();
 }
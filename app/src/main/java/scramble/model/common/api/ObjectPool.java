@@ -0,0 +1,52 @@
+package scramble.model.common.api;
+
+/**
+ * {@code ObjectPool} keeps the instances that are not used anymore, so that
+ * they can be given back instead of creating new ones. An instance taken from
+ * the pool keeps the state it had when it was released: it is up to the
+ * caller to reset it.
+ *
+ * @param <T> the type of the pooled instances
+ */
+public interface ObjectPool<T> {
+
+    /**
+     * Takes an instance from the pool, or creates a new one if the pool is
+     * empty.
+     *
+     * @return the instance
+     */
+    T acquire();
+
+    /**
+     * Gives an instance back to the pool. If the pool is full the instance is
+     * dropped. An instance must not be released twice nor used after it is
+     * released.
+     *
+     * @param element the instance to give back
+     */
+    void release(T element);
+
+    /**
+     * Getter for the number of calls to {@link #acquire()} that found an
+     * instance in the pool.
+     *
+     * @return the number of hits
+     */
+    long getHits();
+
+    /**
+     * Getter for the number of calls to {@link #acquire()} that had to create
+     * a new instance.
+     *
+     * @return the number of misses
+     */
+    long getMisses();
+
+    /**
+     * Getter for the number of instances waiting in the pool.
+     *
+     * @return the number of idle instances
+     */
+    int size();
+}
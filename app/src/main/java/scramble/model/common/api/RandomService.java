@@ -0,0 +1,33 @@
+package scramble.model.common.api;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * {@code RandomService} is the only source of randomness of the simulation.
+ * Everything random comes from a single seed, so that two games started with
+ * the same seed and played with the same input are the same game.
+ *
+ * <p>
+ * Every part of the game takes its own stream, by name: the numbers of a
+ * stream only depend on the seed and on the name, not on the other streams
+ * and on the order they are taken in.
+ * </p>
+ */
+public interface RandomService {
+
+    /**
+     * Getter for the seed of every stream.
+     *
+     * @return the seed
+     */
+    long getSeed();
+
+    /**
+     * Creates a stream of random numbers. Two calls with the same name give
+     * two generators with the same numbers.
+     *
+     * @param name the name of the part of the game that uses the stream
+     * @return a new generator, to be used by a single thread
+     */
+    RandomGenerator stream(String name);
+}
@@ -0,0 +1,63 @@
+package scramble.model.common.api;
+
+/**
+ * {@code SpatialHash} is the broadphase of the collision checks: the boxes
+ * inserted in it are bucketed into the cells of a uniform grid, so that a
+ * query only tests the boxes that share a cell with the queried one.
+ *
+ * <p>
+ * The grid only keeps the boxes, an element is known by the id returned when
+ * its box is inserted, so that entities kept in primitive arrays can be
+ * inserted without objects. It is meant to be filled again at every tick:
+ * {@link #clear(int, int)} it, insert the boxes that can be hit and then
+ * query it once for every box that can hit them. A query tests every
+ * inserted box at most once, even if the two boxes share more than one cell,
+ * and does not change the grid, so queries can run on many threads at the
+ * same time once the grid is filled.
+ * </p>
+ */
+public interface SpatialHash {
+
+    /** Removes all the boxes from the grid. */
+    void clear();
+
+    /**
+     * Removes all the boxes from the grid and moves it, so that it covers the
+     * area starting at the given point. It lets the grid follow a camera over
+     * elements kept in world coordinates.
+     *
+     * @param originX the x coordinate of the top left corner of the area
+     * @param originY the y coordinate of the top left corner of the area
+     */
+    void clear(int originX, int originY);
+
+    /**
+     * Inserts a box in all the cells it overlaps.
+     *
+     * @param x      the x coordinate of the box
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return the id of the box, the number of boxes inserted before it
+     */
+    int insert(int x, int y, int width, int height);
+
+    /**
+     * Returns the box that intersects the given one and was inserted first.
+     *
+     * @param x      the x coordinate of the box
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return the id of the first box that intersects the given one, or -1 if
+     *         there is none
+     */
+    int firstCollision(int x, int y, int width, int height);
+
+    /**
+     * Getter for the number of boxes in the grid.
+     *
+     * @return the number of boxes
+     */
+    int size();
+}
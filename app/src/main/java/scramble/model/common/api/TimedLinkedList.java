@@ -3,12 +3,19 @@ package scramble.model.common.api;
 import java.util.Collection;
 import java.util.stream.Stream;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * TimedLinkedList interface defines the contract for a timed list where
  * elements are automatically
  * removed after a specified period of time.
  *
+ * <p>
+ * The time is the time of the game: it only passes when {@link #advance()} is
+ * called, once per tick, so the elements do not expire while the game is
+ * paused.
+ * </p>
+ *
  * @param <T> the type of elements stored in this timed list
  */
 public interface TimedLinkedList<T> {
@@ -35,6 +42,21 @@ public interface TimedLinkedList<T> {
      */
     boolean addAll(Collection<T> c, long time);
 
+    /**
+     * Moves the list forward by one tick, removing the elements whose time is
+     * over.
+     */
+    void advance();
+
+    /**
+     * Moves the list forward by one tick, removing the elements whose time is
+     * over and handing each of them to an action, for example to give them
+     * back to their pool.
+     *
+     * @param expired the action to call for every element removed
+     */
+    void advance(Consumer<T> expired);
+
     /**
      * Returns a sequential {@code Stream} with the elements of this list.
      *
@@ -0,0 +1,40 @@
+package scramble.model.common.api;
+
+/**
+ * {@code TimingWheel} runs tasks after a delay measured in game ticks instead
+ * of wall clock time.
+ *
+ * <p>
+ * The wheel has no thread of its own: time only moves when {@link #advance()}
+ * is called, so a paused game does not run its tasks and the same sequence of
+ * calls always runs the same tasks in the same order. Tasks due on the same
+ * tick run in the order they were scheduled.
+ * </p>
+ */
+public interface TimingWheel {
+
+    /**
+     * Schedules a task.
+     *
+     * @param delayTicks the number of ticks to wait, at least one
+     * @param task       the task to run
+     */
+    void schedule(int delayTicks, Runnable task);
+
+    /**
+     * Moves the wheel forward by one tick and runs the tasks that are due.
+     */
+    void advance();
+
+    /**
+     * Drops all the scheduled tasks without running them.
+     */
+    void clear();
+
+    /**
+     * Getter for the number of tasks still waiting.
+     *
+     * @return the number of scheduled tasks
+     */
+    int size();
+}
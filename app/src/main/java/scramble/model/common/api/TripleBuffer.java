@@ -0,0 +1,48 @@
+package scramble.model.common.api;
+
+/**
+ * {@code TripleBuffer} hands instances from a writer thread to a reader
+ * thread without locks and without copies. The writer fills the back
+ * instance and publishes it, the reader takes the last published instance
+ * and reads it as long as it wants: neither of them ever waits for the other
+ * one, and an instance is only touched by one of them at a time.
+ *
+ * <p>
+ * The instances are reused, so the reader must not keep an instance after it
+ * takes the next one, and the writer must fill every field of the back
+ * instance, that holds what was written two publications before.
+ * </p>
+ *
+ * @param <T> the type of the buffered instances
+ */
+public interface TripleBuffer<T> {
+
+    /**
+     * Getter for the instance the writer fills. Only the writer may call it.
+     *
+     * @return the back instance
+     */
+    T back();
+
+    /**
+     * Publishes the back instance and gives the writer another one. Only the
+     * writer may call it.
+     */
+    void publish();
+
+    /**
+     * Takes the last published instance, if it was published after the last
+     * call. Only the reader may call it.
+     *
+     * @return true if the front instance changed
+     */
+    boolean acquire();
+
+    /**
+     * Getter for the instance the reader reads, that is the last one taken by
+     * {@link #acquire()}. Only the reader may call it.
+     *
+     * @return the front instance
+     */
+    T front();
+}
@@ -15,7 +15,7 @@ import java.awt.Color;
 public abstract class GameElementImpl extends HitBoxImpl implements GameElement {
 
     private final int width, height;
-    private final PairImpl<Integer, Integer> position;
+    private int previousX, previousY;
 
     /**
      * Class constructor.
@@ -27,22 +27,70 @@ public abstract class GameElementImpl extends HitBoxImpl implements GameElement
      */
     public GameElementImpl(final int x, final int y, final int width, final int height) {
         super(x, y, width, height);
-        this.position = new PairImpl<>(x, y);
         this.width = width;
         this.height = height;
+        this.previousX = x;
+        this.previousY = y;
     }
 
     /** {@inheritDoc} */
     @Override
     public void updatePosition(final PairImpl<Integer, Integer> newPosition) {
-        this.position.setPair(newPosition);
-        updateHitBox(newPosition.getFirstElement(), newPosition.getSecondElement());
+        moveTo(newPosition.getFirstElement(), newPosition.getSecondElement());
     }
 
     /** {@inheritDoc} */
     @Override
     public PairImpl<Integer, Integer> getPosition() {
-        return new PairImpl<>(position.getFirstElement(), position.getSecondElement());
+        return new PairImpl<>(x(), y());
+    }
+
+    /**
+     * Moves the game element to a new position. The position is the position of
+     * the hitbox, read it with {@link #x()} and {@link #y()}.
+     *
+     * @param x the new x coordinate
+     * @param y the new y coordinate
+     */
+    public void moveTo(final int x, final int y) {
+        updateHitBox(x, y);
+    }
+
+    /**
+     * Moves the game element by an offset.
+     *
+     * @param dx the offset on the x axis
+     * @param dy the offset on the y axis
+     */
+    public void moveBy(final int dx, final int dy) {
+        updateHitBox(x() + dx, y() + dy);
+    }
+
+    /**
+     * Remembers the current position as the previous one, so that the view can
+     * draw the game element between two updates.
+     */
+    public void savePosition() {
+        this.previousX = x();
+        this.previousY = y();
+    }
+
+    /**
+     * Getter for the x coordinate at the last {@link #savePosition()}.
+     *
+     * @return the previous x coordinate
+     */
+    public int previousX() {
+        return this.previousX;
+    }
+
+    /**
+     * Getter for the y coordinate at the last {@link #savePosition()}.
+     *
+     * @return the previous y coordinate
+     */
+    public int previousY() {
+        return this.previousY;
     }
 
     /**
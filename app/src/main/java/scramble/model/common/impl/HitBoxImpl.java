@@ -31,7 +31,7 @@ public class HitBoxImpl implements HitBox {
      */
     @Override
     public boolean hasCollided(final HitBox obj) {
-        return hitbox.intersects(obj.getHitBox());
+        return obj.intersects(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
     }
 
     /**
@@ -49,4 +49,48 @@ public class HitBoxImpl implements HitBox {
     public Rectangle getHitBox() {
         return new Rectangle(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean intersects(final int x, final int y, final int width, final int height) {
+        if (width <= 0 || height <= 0 || hitbox.width <= 0 || hitbox.height <= 0) {
+            return false;
+        }
+        return x < hitbox.x + hitbox.width && hitbox.x < x + width
+                && y < hitbox.y + hitbox.height && hitbox.y < y + height;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int x() {
+        return hitbox.x;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int y() {
+        return hitbox.y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int width() {
+        return hitbox.width;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int height() {
+        return hitbox.height;
+    }
 }
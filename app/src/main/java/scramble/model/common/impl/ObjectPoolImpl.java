@@ -0,0 +1,77 @@
+package scramble.model.common.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+import scramble.model.common.api.ObjectPool;
+
+/**
+ * Implementation of the interface {@link ObjectPool}. The idle instances are
+ * kept in a stack, so the last one released is the first one given back, and
+ * the pool never keeps more of them than its capacity.
+ *
+ * @param <T> the type of the pooled instances
+ */
+public final class ObjectPoolImpl<T> implements ObjectPool<T> {
+
+    private final Supplier<T> factory;
+    private final int capacity;
+    private final Deque<T> idle;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructor for the class {@code ObjectPoolImpl}.
+     *
+     * @param factory  the function that creates an instance when the pool is
+     *                 empty
+     * @param capacity the maximum number of idle instances
+     */
+    public ObjectPoolImpl(final Supplier<T> factory, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The pool must hold at least one instance");
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+        this.idle = new ArrayDeque<>(capacity);
+    }
+
+    /** @inheritDoc */
+    @Override
+    public T acquire() {
+        final T element = this.idle.pollFirst();
+        if (element == null) {
+            this.misses++;
+            return this.factory.get();
+        }
+        this.hits++;
+        return element;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public void release(final T element) {
+        if (this.idle.size() < this.capacity) {
+            this.idle.offerFirst(element);
+        }
+    }
+
+    /** @inheritDoc */
+    @Override
+    public long getHits() {
+        return this.hits;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public int size() {
+        return this.idle.size();
+    }
+}
@@ -0,0 +1,43 @@
+package scramble.model.common.impl;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import scramble.model.common.api.RandomService;
+
+/**
+ * Implementation of the interface {@link RandomService}. The seed of a stream
+ * is the seed of the service mixed with the hash of the name of the stream.
+ */
+public final class RandomServiceImpl implements RandomService {
+
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+    private final long seed;
+
+    /** Constructor for a service with a seed that is never the same. */
+    public RandomServiceImpl() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructor for the class {@code RandomServiceImpl}.
+     *
+     * @param seed the seed of every stream
+     */
+    public RandomServiceImpl(final long seed) {
+        this.seed = seed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RandomGenerator stream(final String name) {
+        return new SplittableRandom(this.seed + name.hashCode() * GOLDEN_GAMMA);
+    }
+}
@@ -0,0 +1,163 @@
+package scramble.model.common.impl;
+
+import java.util.Arrays;
+
+import scramble.model.common.api.SpatialHash;
+
+/**
+ * Implementation of the interface {@link SpatialHash}.
+ *
+ * <p>
+ * The grid covers an area of a fixed size, usually the screen, that can be
+ * moved when it is cleared, and the boxes that go out of it are clamped to the
+ * cells of its border: they are still found, only with more candidates. Every
+ * cell keeps the ids of its boxes in a primitive array that is reused from a
+ * tick to the next one, in the order they were inserted. A box that spans
+ * many cells is only tested in the first cell it shares with the query, so
+ * no box is tested twice and a query writes nothing.
+ * </p>
+ */
+public final class SpatialHashImpl implements SpatialHash {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[][] cells;
+    private final int[] cellSizes;
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int[] widths = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private int[] firstColumns = new int[INITIAL_CAPACITY];
+    private int[] firstRows = new int[INITIAL_CAPACITY];
+    private int size;
+    private int originX;
+    private int originY;
+
+    /**
+     * Constructor for the class {@code SpatialHashImpl}.
+     *
+     * @param width    the width of the area covered by the grid
+     * @param height   the height of the area covered by the grid
+     * @param cellSize the side of a cell of the grid
+     */
+    public SpatialHashImpl(final int width, final int height, final int cellSize) {
+        if (width <= 0 || height <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("The grid and its cells must have a positive size");
+        }
+        this.cellSize = cellSize;
+        this.columns = (width + cellSize - 1) / cellSize;
+        this.rows = (height + cellSize - 1) / cellSize;
+        this.cells = new int[this.columns * this.rows][INITIAL_CAPACITY];
+        this.cellSizes = new int[this.columns * this.rows];
+    }
+
+    /** @inheritDoc */
+    @Override
+    public void clear() {
+        this.clear(0, 0);
+    }
+
+    /** @inheritDoc */
+    @Override
+    public void clear(final int originX, final int originY) {
+        this.size = 0;
+        Arrays.fill(this.cellSizes, 0);
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public int insert(final int x, final int y, final int width, final int height) {
+        if (this.size == this.xs.length) {
+            this.grow();
+        }
+        final int id = this.size++;
+        this.xs[id] = x;
+        this.ys[id] = y;
+        this.widths[id] = width;
+        this.heights[id] = height;
+        this.firstColumns[id] = this.column(x);
+        this.firstRows[id] = this.row(y);
+
+        final int lastColumn = this.column(x + width - 1);
+        final int lastRow = this.row(y + height - 1);
+        for (int r = this.firstRows[id]; r <= lastRow; r++) {
+            for (int c = this.firstColumns[id]; c <= lastColumn; c++) {
+                this.add(r * this.columns + c, id);
+            }
+        }
+        return id;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public int firstCollision(final int x, final int y, final int width, final int height) {
+        if (width <= 0 || height <= 0) {
+            return -1;
+        }
+        final int firstColumn = this.column(x);
+        final int firstRow = this.row(y);
+        final int lastColumn = this.column(x + width - 1);
+        final int lastRow = this.row(y + height - 1);
+        int first = -1;
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                final int cell = r * this.columns + c;
+                for (int i = 0; i < this.cellSizes[cell]; i++) {
+                    final int id = this.cells[cell][i];
+                    if (first >= 0 && id >= first) {
+                        // The ids of a cell grow, the others come too late
+                        break;
+                    }
+                    if (Math.max(this.firstColumns[id], firstColumn) == c
+                            && Math.max(this.firstRows[id], firstRow) == r
+                            && this.intersects(id, x, y, width, height)) {
+                        first = id;
+                    }
+                }
+            }
+        }
+        return first;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private boolean intersects(final int id, final int x, final int y, final int width, final int height) {
+        return this.widths[id] > 0 && this.heights[id] > 0
+                && x < this.xs[id] + this.widths[id] && this.xs[id] < x + width
+                && y < this.ys[id] + this.heights[id] && this.ys[id] < y + height;
+    }
+
+    private void add(final int cell, final int id) {
+        if (this.cellSizes[cell] == this.cells[cell].length) {
+            this.cells[cell] = Arrays.copyOf(this.cells[cell], this.cells[cell].length * 2);
+        }
+        this.cells[cell][this.cellSizes[cell]++] = id;
+    }
+
+    private void grow() {
+        final int capacity = this.xs.length * 2;
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.widths = Arrays.copyOf(this.widths, capacity);
+        this.heights = Arrays.copyOf(this.heights, capacity);
+        this.firstColumns = Arrays.copyOf(this.firstColumns, capacity);
+        this.firstRows = Arrays.copyOf(this.firstRows, capacity);
+    }
+
+    private int column(final int x) {
+        return Math.min(Math.max(Math.floorDiv(x - this.originX, this.cellSize), 0), this.columns - 1);
+    }
+
+    private int row(final int y) {
+        return Math.min(Math.max(Math.floorDiv(y - this.originY, this.cellSize), 0), this.rows - 1);
+    }
+}
@@ -1,43 +1,73 @@
 package scramble.model.common.impl;
 
-import java.util.LinkedList;
-import java.util.List;
 import java.util.ArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import scramble.model.common.api.TimedLinkedList;
+import scramble.utility.Constants;
 
 /**
  * A TimedLinkedList is a custom list implementation where each element is
- * automatically
- * removed after a specified time interval. It internally uses a
- * {@link LinkedList} to store
- * the elements and a {@link ScheduledExecutorService} to schedule their
- * removal.
+ * automatically removed after a specified time interval, measured in game
+ * ticks.
+ *
+ * <p>
+ * The elements are kept in a doubly linked list, in the order they were added,
+ * and in a ring of buckets indexed by the tick they expire. The ring is always
+ * longer than the longest time, so a bucket only holds the elements of a single
+ * tick: adding and expiring an element are constant time. The nodes of the
+ * expired elements are kept in a free list and reused by the next additions.
+ * </p>
+ *
+ * <p>
+ * The list is not thread safe. {@link #stream()} walks the linked list
+ * itself, so the list must not change until the stream is consumed, while
+ * {@link #getList()} copies the elements.
+ * </p>
  *
  * @param <T> the type of elements held in this list
  */
 public class TimedLinkedListImpl<T> implements TimedLinkedList<T> {
-    private final List<T> list = new LinkedList<>();
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private static final int INITIAL_BUCKETS = 64;
+
+    private final int tickMs;
+    private final Node<T> head = new Node<>(null, 0);
+    private List<List<Node<T>>> buckets = newBuckets(INITIAL_BUCKETS);
+    private long tick;
+    private Node<T> free;
+
+    /** Constructor for a list driven by ticks of {@link Constants#GAME_TICK_MS}. */
+    public TimedLinkedListImpl() {
+        this(Constants.GAME_TICK_MS);
+    }
+
+    /**
+     * Constructor for the class {@code TimedLinkedListImpl}.
+     *
+     * @param tickMs the duration of a tick in milliseconds
+     */
+    public TimedLinkedListImpl(final int tickMs) {
+        this.tickMs = tickMs;
+        this.head.prev = this.head;
+        this.head.next = this.head;
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean addElement(final T element, final long time) {
-        final var ret = list.add(element);
-
-        // Schedule removal after 5 seconds
-        scheduler.schedule(() -> {
-            list.remove(element);
-        }, time, TimeUnit.MILLISECONDS);
-        return ret;
+        this.add(element, time);
+        return true;
     }
 
     /**
@@ -45,11 +75,38 @@ public class TimedLinkedListImpl<T> implements TimedLinkedList<T> {
      */
     @Override
     public boolean addAll(final Collection<T> c, final long time) {
-        return c.stream().map(x -> addElement(x, time)).anyMatch(x -> x);
-        /*
-         * B0, B1, B2, B3, ..., B8, B9, ...
-         * true, true, true, true, ..., false, false, ...
-         */
+        c.forEach(x -> this.add(x, time));
+        return !c.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void advance() {
+        this.advance(element -> {
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void advance(final Consumer<T> expired) {
+        this.tick++;
+        final List<Node<T>> bucket = this.buckets.get(this.bucketOf(this.tick));
+        if (bucket.isEmpty()) {
+            return;
+        }
+        for (final Node<T> node : bucket) {
+            node.unlink();
+            expired.accept(node.value);
+            // The node is kept for the next element added
+            node.value = null;
+            node.next = this.free;
+            this.free = node;
+        }
+        bucket.clear();
     }
 
     /**
@@ -57,7 +114,25 @@ public class TimedLinkedListImpl<T> implements TimedLinkedList<T> {
      */
     @Override
     public Stream<T> stream() {
-        return list.stream();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<T>() {
+
+            private Node<T> next = TimedLinkedListImpl.this.head.next;
+
+            @Override
+            public boolean hasNext() {
+                return this.next != TimedLinkedListImpl.this.head;
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final T value = this.next.value;
+                this.next = this.next.next;
+                return value;
+            }
+        }, Spliterator.ORDERED), false);
     }
 
     /**
@@ -65,6 +140,77 @@ public class TimedLinkedListImpl<T> implements TimedLinkedList<T> {
      */
     @Override
     public List<T> getList() {
-        return new ArrayList<>(list);
+        final List<T> elements = new ArrayList<>();
+        for (Node<T> node = this.head.next; node != this.head; node = node.next) {
+            elements.add(node.value);
+        }
+        return elements;
+    }
+
+    private void add(final T element, final long time) {
+        final long ticks = Math.max(1, Math.round((double) time / this.tickMs));
+        if (ticks >= this.buckets.size()) {
+            this.grow(ticks);
+        }
+        final Node<T> node;
+        if (this.free == null) {
+            node = new Node<>(element, this.tick + ticks);
+        } else {
+            node = this.free;
+            this.free = node.next;
+            node.value = element;
+            node.expiry = this.tick + ticks;
+        }
+        node.linkBefore(this.head);
+        this.buckets.get(this.bucketOf(node.expiry)).add(node);
+    }
+
+    /* Makes the ring longer than the given time, moving the elements to their new bucket. */
+    private void grow(final long ticks) {
+        int size = this.buckets.size();
+        while (size <= ticks) {
+            size *= 2;
+        }
+        this.buckets = newBuckets(size);
+        for (Node<T> node = this.head.next; node != this.head; node = node.next) {
+            this.buckets.get(this.bucketOf(node.expiry)).add(node);
+        }
+    }
+
+    private int bucketOf(final long expiry) {
+        return (int) (expiry & (this.buckets.size() - 1));
+    }
+
+    private static <T> List<List<Node<T>>> newBuckets(final int size) {
+        final List<List<Node<T>>> ret = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ret.add(new ArrayList<>());
+        }
+        return ret;
+    }
+
+    private static final class Node<T> {
+
+        private T value;
+        private long expiry;
+        private Node<T> prev;
+        private Node<T> next;
+
+        Node(final T value, final long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+        void linkBefore(final Node<T> successor) {
+            this.prev = successor.prev;
+            this.next = successor;
+            successor.prev.next = this;
+            successor.prev = this;
+        }
+
+        void unlink() {
+            this.prev.next = this.next;
+            this.next.prev = this.prev;
+        }
     }
 }
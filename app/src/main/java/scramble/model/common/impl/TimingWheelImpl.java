@@ -0,0 +1,116 @@
+package scramble.model.common.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import scramble.model.common.api.TimingWheel;
+
+/**
+ * Implementation of the interface {@link TimingWheel}, as a hashed timing
+ * wheel.
+ *
+ * <p>
+ * A task is stored in the slot of its deadline tick modulo the number of
+ * slots, so scheduling is constant time and a tick only looks at a single
+ * slot. Tasks farther than a whole turn of the wheel share the slot with
+ * nearer ones and are kept until their deadline comes.
+ * </p>
+ */
+public final class TimingWheelImpl implements TimingWheel {
+
+    private static final int DEFAULT_SLOTS = 256;
+
+    private final List<List<Entry>> slots;
+    private final List<Entry> due;
+    private final int mask;
+    private long tick;
+    private int size;
+
+    /** Constructor for the class {@code TimingWheelImpl}. */
+    public TimingWheelImpl() {
+        this(DEFAULT_SLOTS);
+    }
+
+    /**
+     * Constructor for the class {@code TimingWheelImpl}.
+     *
+     * @param slots the number of slots of the wheel, a power of two
+     */
+    public TimingWheelImpl(final int slots) {
+        if (slots <= 0 || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("The number of slots must be a power of two");
+        }
+        this.slots = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            this.slots.add(new ArrayList<>());
+        }
+        this.due = new ArrayList<>();
+        this.mask = slots - 1;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public void schedule(final int delayTicks, final Runnable task) {
+        if (delayTicks < 1) {
+            throw new IllegalArgumentException("A task can only be scheduled in a future tick");
+        }
+        final long deadline = this.tick + delayTicks;
+        this.slots.get(this.slotOf(deadline)).add(new Entry(deadline, task));
+        this.size++;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public void advance() {
+        this.tick++;
+        final List<Entry> slot = this.slots.get(this.slotOf(this.tick));
+        if (slot.isEmpty()) {
+            return;
+        }
+        // The due tasks are taken out before running them, as they can schedule
+        // new tasks in this same slot
+        int kept = 0;
+        for (final Entry entry : slot) {
+            if (entry.deadline <= this.tick) {
+                this.due.add(entry);
+            } else {
+                slot.set(kept++, entry);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+        this.size -= this.due.size();
+        try {
+            this.due.forEach(entry -> entry.task.run());
+        } finally {
+            this.due.clear();
+        }
+    }
+
+    /** @inheritDoc */
+    @Override
+    public void clear() {
+        this.slots.forEach(List::clear);
+        this.size = 0;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private int slotOf(final long deadline) {
+        return (int) (deadline & this.mask);
+    }
+
+    private static final class Entry {
+
+        private final long deadline;
+        private final Runnable task;
+
+        Entry(final long deadline, final Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+    }
+}
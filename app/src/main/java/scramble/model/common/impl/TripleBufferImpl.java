@@ -0,0 +1,69 @@
+package scramble.model.common.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import scramble.model.common.api.TripleBuffer;
+
+/**
+ * Implementation of the interface {@link TripleBuffer}.
+ *
+ * <p>
+ * The three instances are the back one, owned by the writer, the front one,
+ * owned by the reader, and the middle one, the last published. The writer
+ * publishes by swapping back and middle, the reader acquires by swapping
+ * front and middle: the index of the middle instance and a bit that tells if
+ * it is new are kept in a single atomic integer, so every swap is a single
+ * atomic operation.
+ * </p>
+ *
+ * @param <T> the type of the buffered instances
+ */
+public final class TripleBufferImpl<T> implements TripleBuffer<T> {
+
+    private static final int FRESH = 1 << 2;
+    private static final int INDEX = FRESH - 1;
+
+    private final List<T> instances;
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back;
+    private int front = 2;
+
+    /**
+     * Constructor for the class {@code TripleBufferImpl}.
+     *
+     * @param factory the function that creates the three instances
+     */
+    public TripleBufferImpl(final Supplier<T> factory) {
+        this.instances = List.of(factory.get(), factory.get(), factory.get());
+    }
+
+    /** @inheritDoc */
+    @Override
+    public T back() {
+        return this.instances.get(this.back);
+    }
+
+    /** @inheritDoc */
+    @Override
+    public void publish() {
+        this.back = this.middle.getAndSet(this.back | FRESH) & INDEX;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public boolean acquire() {
+        if ((this.middle.get() & FRESH) == 0) {
+            return false;
+        }
+        this.front = this.middle.getAndSet(this.front) & INDEX;
+        return true;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public T front() {
+        return this.instances.get(this.front);
+    }
+}
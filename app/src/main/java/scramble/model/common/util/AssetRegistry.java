@@ -0,0 +1,73 @@
+package scramble.model.common.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javax.imageio.ImageIO;
+
+import scramble.model.common.util.enums.Asset;
+
+/**
+ * The utility class {@code AssetRegistry} decodes the frames of every
+ * {@link Asset} only once, the first time they are needed, and shares them
+ * between all the game elements.
+ *
+ * <p>
+ * The returned lists are immutable and the images must not be drawn on: a game
+ * element that needs a modified frame has to copy it first, see
+ * {@link BufferedImageManager#cloneBufferedImage}.
+ * </p>
+ */
+public final class AssetRegistry {
+
+    private static final Logger LOG = Logger.getLogger(AssetRegistry.class.getName());
+    private static final Map<Asset, List<BufferedImage>> FRAMES = new ConcurrentHashMap<>();
+
+    private AssetRegistry() {
+    }
+
+    /**
+     * Getter for the frames of an asset. They are decoded on the first call.
+     *
+     * @param asset the asset
+     * @return the immutable list of the frames that could be loaded
+     */
+    public static List<BufferedImage> getFrames(final Asset asset) {
+        return FRAMES.computeIfAbsent(asset, AssetRegistry::load);
+    }
+
+    /**
+     * Decodes the frames of all the assets, in parallel, so that no game element
+     * has to wait for them during the game.
+     */
+    public static void preload() {
+        Arrays.stream(Asset.values()).parallel().forEach(AssetRegistry::getFrames);
+    }
+
+    private static List<BufferedImage> load(final Asset asset) {
+        final List<BufferedImage> frames = new ArrayList<>();
+        for (int i = 1; i <= asset.getFrames(); i++) {
+            final String path = asset.getPath(i);
+            final URL url = AssetRegistry.class.getResource(path);
+            try {
+                final BufferedImage frame = url == null ? null : ImageIO.read(url);
+                if (frame == null) {
+                    LOG.severe("Ops! couldn't load " + path);
+                } else {
+                    frames.add(frame);
+                }
+            } catch (IOException e) {
+                LOG.severe("Ops! couldn't load " + path);
+                LOG.severe(e.toString());
+            }
+        }
+        return List.copyOf(frames);
+    }
+}
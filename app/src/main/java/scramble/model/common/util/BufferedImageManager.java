@@ -4,18 +4,37 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.util.function.Predicate;
-import java.util.function.Function;
+import java.awt.image.DataBufferInt;
+import java.awt.image.WritableRaster;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
 
 /**
  * The utility class {@code BufferedImageManager} is a class that contains
  * usefull
  * methods for {@link BufferedImge} manipulation.
+ *
+ * <p>
+ * Every transformation has a cached variant, that computes the transformation
+ * of a source image only once and then returns the same shared result. The
+ * cache is keyed by the identity of the source image, so it is meant for
+ * sprites that are loaded once and live for the whole game, like the
+ * {@code LandPart} sprites of the map. The shared results must not be drawn
+ * on.
+ * </p>
  */
 public final class BufferedImageManager {
 
     private static final double ANCHOR_X = 2;
     private static final double ANCHOR_Y = 2;
+    private static final int OPAQUE = 0xFF000000;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int RED_SHIFT = 16;
+    private static final int GREEN_SHIFT = 8;
+
+    private static final Map<TransformKey, BufferedImage> TRANSFORMS = new ConcurrentHashMap<>();
 
     private BufferedImageManager() {
     }
@@ -54,6 +73,18 @@ public final class BufferedImageManager {
         return modifiedImage;
     }
 
+    /**
+     * Cached variant of {@link #rotateBufferedImageWithDegree}.
+     *
+     * @param toModify the {@link BufferedImage} that we want to rotate
+     * @param degrees  the number of degree
+     * @return the shared {@link BufferedImage} rotated
+     */
+    public static BufferedImage cachedRotation(final BufferedImage toModify, final int degrees) {
+        return TRANSFORMS.computeIfAbsent(new TransformKey(toModify, Transform.ROTATION, degrees),
+                k -> rotateBufferedImageWithDegree(toModify, degrees));
+    }
+
     /**
      * The method {@code substitutePurpleWithRed} substitutes purple dominant pixel
      * of a {@link BufferedImage} with red pixel.
@@ -65,9 +96,24 @@ public final class BufferedImageManager {
      */
     public static BufferedImage substitutePurpleWithRed(final BufferedImage toSubstitute, final float pixelWidth) {
         final int threshold = 200;
-        final Color red = new Color(120, 0, 0);
+        final int red = new Color(120, 0, 0).getRGB();
 
-        return changeColor(toSubstitute, pixelWidth, c -> c.getBlue() > threshold, c -> red.getRGB(), Color::getRGB);
+        return changeColor(toSubstitute, pixelWidth, rgb -> blue(rgb) > threshold, rgb -> red, rgb -> rgb);
+    }
+
+    /**
+     * Cached variant of {@link #substitutePurpleWithRed}.
+     *
+     * @param toSubstitute the {@link BufferedImage} that needs to substitute green
+     *                     with purple
+     * @param pixelWidth   the pixel width that will be chacked
+     * @return the shared {@link BufferedImage} with purple substituted with red
+     */
+    public static BufferedImage cachedSubstitutePurpleWithRed(final BufferedImage toSubstitute,
+            final float pixelWidth) {
+        return TRANSFORMS.computeIfAbsent(
+                new TransformKey(toSubstitute, Transform.PURPLE_TO_RED, Float.floatToIntBits(pixelWidth)),
+                k -> substitutePurpleWithRed(toSubstitute, pixelWidth));
     }
 
     /**
@@ -83,8 +129,20 @@ public final class BufferedImageManager {
      * @return the {@link BufferedImage} with the color switched
      */
     public static BufferedImage changeColorClockwise(final BufferedImage toChange, final int added) {
-        return changeColor(toChange, toChange.getWidth(), c -> true,
-                c -> new Color(c.getBlue(), c.getRed(), c.getGreen()).getRGB(), null);
+        return changeColor(toChange, toChange.getWidth(), rgb -> true,
+                rgb -> argb(blue(rgb), red(rgb), green(rgb)), null);
+    }
+
+    /**
+     * Cached variant of {@link #changeColorClockwise}.
+     *
+     * @param toChange the {@link BufferedImage} whose color needs to be changed
+     * @param added    the value that will be added to the color to intensify it
+     * @return the shared {@link BufferedImage} with the color switched
+     */
+    public static BufferedImage cachedColorClockwise(final BufferedImage toChange, final int added) {
+        return TRANSFORMS.computeIfAbsent(new TransformKey(toChange, Transform.CLOCKWISE, added),
+                k -> changeColorClockwise(toChange, added));
     }
 
     /**
@@ -100,28 +158,93 @@ public final class BufferedImageManager {
      * @return the {@link BufferedImage} with the color switched
      */
     public static BufferedImage changeColorCounterClockwise(final BufferedImage toChange, final int added) {
-        return changeColor(toChange, toChange.getWidth(), c -> true,
-                c -> new Color(c.getGreen(), c.getBlue(), c.getRed()).getRGB() + added, null);
+        return changeColor(toChange, toChange.getWidth(), rgb -> true,
+                rgb -> argb(green(rgb), blue(rgb), red(rgb)) + added, null);
     }
 
+    /**
+     * Cached variant of {@link #changeColorCounterClockwise}.
+     *
+     * @param toChange the {@link BufferedImage} whose color needs to be changed
+     * @param added    the value that will be added to the color to intensify it
+     * @return the shared {@link BufferedImage} with the color switched
+     */
+    public static BufferedImage cachedColorCounterClockwise(final BufferedImage toChange, final int added) {
+        return TRANSFORMS.computeIfAbsent(new TransformKey(toChange, Transform.COUNTER_CLOCKWISE, added),
+                k -> changeColorCounterClockwise(toChange, added));
+    }
+
+    /**
+     * Applies a transformation to the pixels of the first {@code pixelWidth}
+     * columns of a copy of the image.
+     *
+     * <p>
+     * The pixels are read and written with a single bulk call each and are
+     * transformed as primitive ARGB values, always opaque as if read through
+     * {@link Color#Color(int)}. Images whose pixels are already packed ARGB
+     * ints are copied scanline by scanline from their raster, the others go
+     * through the color model. The copy is not drawn on through its
+     * {@code DataBuffer}, so that Java2D can still cache it when it is drawn.
+     * </p>
+     */
     private static BufferedImage changeColor(final BufferedImage toChange, final float pixelWidth,
-            final Predicate<Color> condition, final Function<Color, Integer> funTrue,
-            final Function<Color, Integer> funFalse) {
-        final BufferedImage bi = cloneBufferedImage(toChange);
-        for (int y = 0; y < bi.getHeight(); y++) {
-            for (int x = 0; x < pixelWidth; x++) {
-                final int rgb = bi.getRGB(x, y);
-                final Color color = new Color(rgb);
-                if (condition.test(color)) {
-                    bi.setRGB(x, y, funTrue.apply(color));
+            final IntPredicate condition, final IntUnaryOperator funTrue, final IntUnaryOperator funFalse) {
+        final int width = toChange.getWidth();
+        final int height = toChange.getHeight();
+        final int columns = Math.min(width, (int) Math.ceil(pixelWidth));
+        final boolean packed = isPackedArgb(toChange);
+        final int[] pixels = packed
+                ? (int[]) toChange.getRaster().getDataElements(0, 0, width, height, null)
+                : toChange.getRGB(0, 0, width, height, null, 0, width);
+
+        for (int y = 0; y < height; y++) {
+            final int row = y * width;
+            for (int x = row; x < row + columns; x++) {
+                final int rgb = pixels[x] | OPAQUE;
+                if (condition.test(rgb)) {
+                    pixels[x] = funTrue.applyAsInt(rgb);
                 } else {
-                    bi.setRGB(x, y, funFalse.apply(color));
+                    pixels[x] = funFalse.applyAsInt(rgb);
                 }
             }
         }
+
+        final BufferedImage bi = new BufferedImage(width, height,
+                toChange.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_ARGB : toChange.getType());
+        if (packed) {
+            bi.getRaster().setDataElements(0, 0, width, height, pixels);
+        } else {
+            bi.setRGB(0, 0, width, height, pixels, 0, width);
+        }
         return bi;
     }
 
+    /*
+     * True if a pixel of the image is a single int laid out as getRGB returns
+     * it, the alpha being ignored for TYPE_INT_RGB.
+     */
+    private static boolean isPackedArgb(final BufferedImage image) {
+        final WritableRaster raster = image.getRaster();
+        return (image.getType() == BufferedImage.TYPE_INT_ARGB || image.getType() == BufferedImage.TYPE_INT_RGB)
+                && raster.getDataBuffer() instanceof DataBufferInt;
+    }
+
+    private static int red(final int rgb) {
+        return (rgb >> RED_SHIFT) & BYTE_MASK;
+    }
+
+    private static int green(final int rgb) {
+        return (rgb >> GREEN_SHIFT) & BYTE_MASK;
+    }
+
+    private static int blue(final int rgb) {
+        return rgb & BYTE_MASK;
+    }
+
+    private static int argb(final int red, final int green, final int blue) {
+        return OPAQUE | red << RED_SHIFT | green << GREEN_SHIFT | blue;
+    }
+
     /**
      * The method {@code cloneBufferedImage} clone a {@link BufferedImage}.
      * 
@@ -137,4 +260,39 @@ public final class BufferedImageManager {
         g2d.dispose();
         return clone;
     }
+
+    private enum Transform {
+        ROTATION, CLOCKWISE, COUNTER_CLOCKWISE, PURPLE_TO_RED
+    }
+
+    private static final class TransformKey {
+
+        private final BufferedImage source;
+        private final Transform transform;
+        private final int parameter;
+
+        TransformKey(final BufferedImage source, final Transform transform, final int parameter) {
+            this.source = source;
+            this.transform = transform;
+            this.parameter = parameter;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TransformKey)) {
+                return false;
+            }
+            final TransformKey other = (TransformKey) obj;
+            return this.source == other.source && this.transform == other.transform
+                    && this.parameter == other.parameter;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(this.source) + this.transform.hashCode()) + this.parameter;
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package scramble.model.common.util.enums;
+
+import scramble.utility.Constants;
+
+/**
+ * Enum for the sprite animations of the game elements. Every animation is a
+ * sequence of frames loaded from the resources.
+ */
+public enum Asset {
+    /**
+     * Horizontal bullet.
+     */
+    BULLET("/bullets/bullet.png", 1),
+    /**
+     * Falling bomb.
+     */
+    BOMB("/bomb/bomb%d.png", Constants.SPRITE_NUMBER_BOMB),
+    /**
+     * Explosion of a bomb.
+     */
+    BOMB_EXPLOSION("/bomb/explosion/bomb_explodes%d.png", Constants.SPRITE_NUMBER_BOMB_EXPLOSION),
+    /**
+     * Spaceship of the player.
+     */
+    SHIP("/ship/ship%d.png", Constants.SPRITE_SPACESHIP),
+    /**
+     * Explosion of the spaceship.
+     */
+    SHIP_EXPLOSION("/ship/explosion/ship_explosion_frame%d.png", Constants.SPRITE_SPACESHIP_EXPLOSION),
+    /**
+     * Enemy rocket.
+     */
+    ROCKET("/rocket/rocket_frame%d_shader.png", Constants.SPRITE_ROCKET),
+    /**
+     * Explosion of a rocket.
+     */
+    ROCKET_EXPLOSION("/rocket/rocket_explosion%d_sprite.png", Constants.SPRITE_ROCKET_EXPLOSION),
+    /**
+     * Fuel tank.
+     */
+    FUEL_TANK("/fueltank/fuel_dump.png", 1),
+    /**
+     * Explosion of a fuel tank.
+     */
+    FUEL_TANK_EXPLOSION("/fueltank/explosion_frame%d_shader.png", 4),
+    /**
+     * Boss at the end of the map.
+     */
+    BOSS("/boss/mystery_shader.png", 1),
+    /**
+     * Explosion of the boss.
+     */
+    BOSS_EXPLOSION("/boss/ufo_explosion_frame%d.png", Constants.SPRITE_BOSS_EXPLOSION);
+
+    private final String path;
+    private final int frames;
+
+    Asset(final String path, final int frames) {
+        this.path = path;
+        this.frames = frames;
+    }
+
+    /**
+     * Getter for the number of frames.
+     *
+     * @return the number of frames of the animation
+     */
+    public int getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * Getter for the resource path of a frame.
+     *
+     * @param frame the frame, starting from 1
+     * @return the path of the frame in the resources
+     */
+    public String getPath(final int frame) {
+        return String.format(this.path, frame);
+    }
+}
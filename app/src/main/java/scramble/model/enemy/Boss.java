@@ -1,18 +1,14 @@
 package scramble.model.enemy;
 
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Logger;
 
-import javax.imageio.ImageIO;
 import java.util.random.RandomGenerator;
 
 import scramble.model.bullets.Bullet;
 import scramble.model.common.impl.GameElementImpl;
-import scramble.model.scores.Scores;
+import scramble.model.common.util.AssetRegistry;
+import scramble.model.common.util.enums.Asset;
 import scramble.utility.Constants;
 
 /**
@@ -21,8 +17,6 @@ import scramble.utility.Constants;
  */
 public class Boss extends GameElementImpl {
 
-    private static final Logger LOG = Logger.getLogger(Rocket.class.getName());
-
     private final List<BufferedImage> sprites;
     private final List<BufferedImage> explosionSprites;
 
@@ -39,10 +33,8 @@ public class Boss extends GameElementImpl {
      */
     public Boss(final int x, final int y, final int width, final int height) {
         super(x, y, width, height);
-        this.sprites = new ArrayList<>();
-        this.explosionSprites = new ArrayList<>();
-
-        loadSprites();
+        this.sprites = AssetRegistry.getFrames(Asset.BOSS);
+        this.explosionSprites = AssetRegistry.getFrames(Asset.BOSS_EXPLOSION);
     }
 
     /**
@@ -89,7 +81,6 @@ public class Boss extends GameElementImpl {
      */
     public void setExploded(final boolean exploded) {
         this.exploded = exploded;
-        Scores.incrementCurrentScore(Constants.BOSS_POINTS);
     }
 
     /**
@@ -112,24 +103,4 @@ public class Boss extends GameElementImpl {
         return explosionSprites.get(randG.nextInt(Constants.SPRITE_BOSS_EXPLOSION));
     }
 
-    private void loadSprites() {
-        try (InputStream inputStream = Boss.class
-                .getResourceAsStream("/boss/mystery_shader.png")) {
-            sprites.add(ImageIO.read(inputStream));
-        } catch (IOException e) {
-            LOG.severe("Error occurred while loading boss sprites!");
-            LOG.severe(e.toString());
-        }
-        for (int i = 1; i <= Constants.SPRITE_BOSS_EXPLOSION; i++) {
-            try {
-                explosionSprites
-                        .add(ImageIO
-                                .read(Boss.class.getResource("/boss/ufo_explosion_frame" + i + ".png")));
-            } catch (IOException e) {
-                LOG.severe("Ops! couldn't load enemy_rocket_explosion_sprites");
-                LOG.severe(e.toString());
-            }
-        }
-    }
-
 }
@@ -1,14 +1,17 @@
 package scramble.model.enemy;
 
-/** Enum for the state of the {@link Rocket}. */
+/**
+ * Enum for the state of a rocket, kept by its ordinal in the
+ * {@link scramble.model.world.EntityStore} of the rockets.
+ */
 public enum RocketState {
 
-    /** {@link RocketImpl} is moving. */
+    /** The rocket is moving. */
     MOVING,
 
-    /** {@link RocketImpl} is in premoving state. */
+    /** The rocket is in premoving state. */
     PREMOVE,
 
-    /** {@link RocketImpl} is exploded. */
+    /** The rocket is exploded. */
     EXPLODED;
 }
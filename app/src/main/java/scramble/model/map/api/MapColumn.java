@@ -28,6 +28,22 @@ public interface MapColumn {
      */
     List<BufferedImage> getBIs();
 
+    /**
+     * Getter for the number of tiles of the column, from the top to the bottom.
+     *
+     * @return the number of tiles
+     */
+    int getTileCount();
+
+    /**
+     * Getter for a single tile of the column, without copying the others as
+     * {@link #getBIs()} does.
+     *
+     * @param index the index of the tile, from the top of the column
+     * @return the shared image of the tile
+     */
+    BufferedImage getTile(int index);
+
     /**
      * Getter for the x coordinate.
      * @return the x coordinate of the column
@@ -70,6 +86,12 @@ public interface MapColumn {
      */
     Pair<Integer, Integer> getFloorPosition();
 
+    /**
+     * Getter for the {@link List} of the {@link MapElement} of the floor.
+     * @return the {@link List} of the {@link MapElement} of the floor
+     */
+    List<MapElement> getFloorElements();
+
     /**
      * Getter for the {@link List} of the {@link MapElement} of the ceiling.
      * @return the {@link List} of the {@link MapElement} of the ceiling
@@ -0,0 +1,48 @@
+package scramble.model.map.api;
+
+/**
+ * {@code TerrainIndex} answers collision queries against the solid parts of
+ * the landscape.
+ *
+ * <p>
+ * Coordinates are map coordinates: the x-axis starts at the first column of the
+ * map and does not depend on the scrolling. A query only looks at the columns
+ * overlapped by the given box, and two boxes collide only if they share some
+ * area, as for {@link java.awt.Rectangle#intersects}.
+ * </p>
+ */
+public interface TerrainIndex {
+
+    /**
+     * Checks if a box collides with the floor of the map.
+     *
+     * @param x      the x coordinate of the box in the map
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return true if the box collides with the floor
+     */
+    boolean hitsFloor(int x, int y, int width, int height);
+
+    /**
+     * Checks if a box collides with the ceiling of the map.
+     *
+     * @param x      the x coordinate of the box in the map
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return true if the box collides with the ceiling
+     */
+    boolean hitsCeiling(int x, int y, int width, int height);
+
+    /**
+     * Checks if a box collides with the floor or the ceiling of the map.
+     *
+     * @param x      the x coordinate of the box in the map
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return true if the box collides with the terrain
+     */
+    boolean hitsTerrain(int x, int y, int width, int height);
+}
@@ -9,6 +9,7 @@ import scramble.model.common.impl.PairImpl;
 import scramble.model.common.util.BufferedImageManager;
 import scramble.model.map.api.MapColumn;
 import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.TilePalette;
 import scramble.model.map.util.enums.LandBehaviour;
 import scramble.model.map.util.enums.LandPart;
 import scramble.model.map.util.enums.StagePart;
@@ -17,11 +18,24 @@ import scramble.utility.Constants;
 
 /**
  * Implementation of the interface {@link MapColumn}.
+ *
+ * <p>
+ * The images of the column are not stored in the column: it only keeps the
+ * index of every tile in the {@link TilePalette}, one byte per tile.
+ * </p>
  */
 public class MapColumnImpl implements MapColumn {
 
+    private static final byte TRANSPARENT_TILE = TilePalette.indexOf(BufferedImageManager
+            .transparentBufferedImage(LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE));
+    private static final byte GREEN_TILE = TilePalette.indexOf(LandUtils.getSprite(LandPart.GREEN_SQUARE));
+    private static final byte DARK_BRICK_TILE = TilePalette
+            .indexOf(BufferedImageManager.cachedColorClockwise(LandUtils.getSprite(LandPart.DARK_BRICK_WALL), 0));
+    private static final byte LIGHT_BRICK_TILE = TilePalette
+            .indexOf(BufferedImageManager.cachedColorCounterClockwise(LandUtils.getSprite(LandPart.WHITE_SQUARE), 2));
+
     private final TerrainType terrainType;
-    private final List<BufferedImage> bufferedImages;
+    private final byte[] tiles;
     private final List<MapElement> floorElements;
     private final List<MapElement> ceilingElements;
 
@@ -49,11 +63,11 @@ public class MapColumnImpl implements MapColumn {
         this.biHeight = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
         this.biWidth = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
         this.terrainType = terrainType;
-        this.bufferedImages = new ArrayList<>();
+        this.tiles = new byte[Constants.SPRITE_PER_STAGE_HEIGHT];
         this.ceilingElements = new ArrayList<>();
         this.floorElements = new ArrayList<>();
 
-        this.fillBufferedImages(ceiling.getY(), floor.getY(), ceiling.getSprite(), floor.getSprite());
+        this.fillTiles(ceiling.getY(), floor.getY(), ceiling.getSprite(), floor.getSprite());
         this.fillElements(ceiling, floor);
     }
 
@@ -69,7 +83,23 @@ public class MapColumnImpl implements MapColumn {
     /** @inheritDoc */
     @Override
     public List<BufferedImage> getBIs() {
-        return new ArrayList<>(this.bufferedImages);
+        final List<BufferedImage> bufferedImages = new ArrayList<>(this.tiles.length);
+        for (final byte tile : this.tiles) {
+            bufferedImages.add(TilePalette.getTile(tile));
+        }
+        return bufferedImages;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public int getTileCount() {
+        return this.tiles.length;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public BufferedImage getTile(final int index) {
+        return TilePalette.getTile(this.tiles[index]);
     }
 
     /** @inheritDoc */
@@ -122,54 +152,58 @@ public class MapColumnImpl implements MapColumn {
                 this.floorPosition.getSecondElement());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<MapElement> getFloorElements() {
+        return new ArrayList<>(this.floorElements);
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<MapElement> getCeilingElements() {
         return new ArrayList<>(this.ceilingElements);
     }
 
-    private BufferedImage selectBI(final StagePart stagePart) {
+    private byte selectTile(final StagePart stagePart) {
         if (this.terrainType == TerrainType.GREENLAND) {
-            return LandUtils.getSprite(LandPart.GREEN_SQUARE);
+            return GREEN_TILE;
         }
         if (LandUtils.dividePixelPerSprite(x) % 2 == 0) {
             if (stagePart == StagePart.CEILING) {
-                return BufferedImageManager.changeColorClockwise(LandUtils.getSprite(LandPart.DARK_BRICK_WALL), 0);
+                return DARK_BRICK_TILE;
             }
-            return BufferedImageManager.changeColorCounterClockwise(LandUtils.getSprite(LandPart.WHITE_SQUARE), 2);
+            return LIGHT_BRICK_TILE;
         }
 
         if (stagePart == StagePart.CEILING) {
-            return BufferedImageManager.changeColorCounterClockwise(LandUtils.getSprite(LandPart.WHITE_SQUARE), 2);
+            return LIGHT_BRICK_TILE;
         }
-        return BufferedImageManager.changeColorClockwise(LandUtils.getSprite(LandPart.DARK_BRICK_WALL), 0);
+        return DARK_BRICK_TILE;
     }
 
-    private void fillBufferedImages(final int yCeiling, final int yFloor, final BufferedImage ceiling,
+    private void fillTiles(final int yCeiling, final int yFloor, final BufferedImage ceiling,
             final BufferedImage floor) {
 
-        final BufferedImage biCeiling = this.selectBI(StagePart.CEILING);
-        final BufferedImage biFloor = this.selectBI(StagePart.FLOOR);
-        final BufferedImage transparent = BufferedImageManager.transparentBufferedImage(biCeiling.getWidth(),
-                biCeiling.getHeight());
-        BufferedImage currentBI;
+        final byte tileCeiling = this.selectTile(StagePart.CEILING);
+        final byte tileFloor = this.selectTile(StagePart.FLOOR);
+        byte currentTile;
 
         if (yCeiling < 0) {
-            currentBI = transparent;
+            currentTile = TRANSPARENT_TILE;
         } else {
-            currentBI = biCeiling;
+            currentTile = tileCeiling;
         }
 
-        for (int y = 0; y < LandUtils.multiplyPixelPerSprite(
-                Constants.SPRITE_PER_STAGE_HEIGHT); y = LandUtils.addPixelPerSprite(y)) {
+        for (int i = 0; i < this.tiles.length; i++) {
+            final int y = LandUtils.multiplyPixelPerSprite(i);
             if (y == yCeiling) {
-                this.bufferedImages.add(BufferedImageManager.cloneBufferedImage(ceiling));
-                currentBI = transparent;
+                this.tiles[i] = TilePalette.indexOf(ceiling);
+                currentTile = TRANSPARENT_TILE;
             } else if (y == yFloor) {
-                this.bufferedImages.add(BufferedImageManager.cloneBufferedImage(floor));
-                currentBI = biFloor;
+                this.tiles[i] = TilePalette.indexOf(floor);
+                currentTile = tileFloor;
             } else {
-                this.bufferedImages.add(currentBI);
+                this.tiles[i] = currentTile;
             }
         }
     }
@@ -182,19 +216,24 @@ public class MapColumnImpl implements MapColumn {
                 floor.getSprite(), floor.getTerrainType(), floor.getBehaviour()));
         if (this.terrainType == TerrainType.BRICK_COLUMN) {
             if (ceiling.getY() > 0) {
-                this.ceilingElements.add(new MapElement(x, 0, ceiling.getWidth(), ceiling.getY(),
-                        BufferedImageManager.transparentBufferedImage(ceiling.getWidth(), ceiling.getY()),
-                        this.terrainType, LandBehaviour.EMPTY));
+                this.ceilingElements.add(this.fillerElement(0, ceiling.getWidth(), ceiling.getY()));
             }
             if (floor.getY() < LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT)) {
-                this.floorElements.add(new MapElement(x, LandUtils.addPixelPerSprite(floor.getY()), floor.getWidth(),
+                this.floorElements.add(this.fillerElement(LandUtils.addPixelPerSprite(floor.getY()), floor.getWidth(),
                         LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT)
-                                - LandUtils.subPixelPerSprite(floor.getY()),
-                        BufferedImageManager.transparentBufferedImage(floor.getWidth(), floor.getY()),
-                        this.terrainType, LandBehaviour.EMPTY));
+                                - LandUtils.subPixelPerSprite(floor.getY())));
 
             }
         }
     }
 
+    /*
+     * The span of a brick column above the ceiling or below the floor is only
+     * needed for its bounds, so it gets the transparent tile of the palette
+     * instead of an image as large as the span.
+     */
+    private MapElement fillerElement(final int y, final int width, final int height) {
+        return new MapElement(this.x, y, width, height, TilePalette.getTile(TRANSPARENT_TILE), this.terrainType,
+                LandBehaviour.EMPTY);
+    }
 }
@@ -0,0 +1,117 @@
+package scramble.model.map.impl;
+
+import java.awt.Rectangle;
+import java.util.List;
+
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.api.TerrainIndex;
+import scramble.model.map.util.LandUtils;
+
+/**
+ * Implementation of the interface {@link TerrainIndex}.
+ *
+ * <p>
+ * The solid elements of a column are contiguous, so the floor and the ceiling
+ * of every column are stored as a single vertical span, in primitive arrays
+ * indexed by the column number. An empty span has the top equal to the bottom.
+ * </p>
+ */
+public final class TerrainIndexImpl implements TerrainIndex {
+
+    private final int columnWidth;
+    private final int[] floorTop;
+    private final int[] floorBottom;
+    private final int[] ceilingTop;
+    private final int[] ceilingBottom;
+
+    /**
+     * Constructor for the class {@code TerrainIndexImpl}.
+     *
+     * @param columns the columns of the map, already placed at their x
+     *                coordinate
+     */
+    public TerrainIndexImpl(final List<MapColumn> columns) {
+        this(columns.stream()
+                .mapToInt(column -> column.getX() / LandUtils.PIXEL_PER_LAND_SPRITE_SIDE + 1)
+                .max()
+                .orElse(0));
+        columns.forEach(this::add);
+    }
+
+    /**
+     * Constructor for an empty index, whose columns are added later with
+     * {@link #add(MapColumn)}. Columns with a different x coordinate can be added
+     * from different threads.
+     *
+     * @param size the number of columns of the map
+     */
+    public TerrainIndexImpl(final int size) {
+        this.columnWidth = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+        this.floorTop = new int[size];
+        this.floorBottom = new int[size];
+        this.ceilingTop = new int[size];
+        this.ceilingBottom = new int[size];
+    }
+
+    /**
+     * Adds the floor and the ceiling of a column to the index. The column does
+     * not need to stay in memory afterwards.
+     *
+     * @param column the column, already placed at its x coordinate
+     */
+    public void add(final MapColumn column) {
+        final int i = column.getX() / this.columnWidth;
+        fillSpan(column.getFloorElements(), this.floorTop, this.floorBottom, i);
+        fillSpan(column.getCeilingElements(), this.ceilingTop, this.ceilingBottom, i);
+    }
+
+    /** @inheritDoc */
+    @Override
+    public boolean hitsFloor(final int x, final int y, final int width, final int height) {
+        return this.hits(this.floorTop, this.floorBottom, x, y, width, height);
+    }
+
+    /** @inheritDoc */
+    @Override
+    public boolean hitsCeiling(final int x, final int y, final int width, final int height) {
+        return this.hits(this.ceilingTop, this.ceilingBottom, x, y, width, height);
+    }
+
+    /** @inheritDoc */
+    @Override
+    public boolean hitsTerrain(final int x, final int y, final int width, final int height) {
+        return this.hitsFloor(x, y, width, height) || this.hitsCeiling(x, y, width, height);
+    }
+
+    private boolean hits(final int[] top, final int[] bottom, final int x, final int y, final int width,
+            final int height) {
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+        final int first = Math.max(0, Math.floorDiv(x, this.columnWidth));
+        final int last = Math.min(top.length - 1, Math.floorDiv(x + width - 1, this.columnWidth));
+        for (int i = first; i <= last; i++) {
+            if (top[i] < bottom[i] && top[i] < y + height && y < bottom[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void fillSpan(final List<MapElement> elements, final int[] top, final int[] bottom,
+            final int column) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (final MapElement element : elements) {
+            final Rectangle hitBox = element.getHitBox();
+            if (hitBox.width > 0 && hitBox.height > 0) {
+                min = Math.min(min, hitBox.y);
+                max = Math.max(max, hitBox.y + hitBox.height);
+            }
+        }
+        if (min < max) {
+            top[column] = min;
+            bottom[column] = max;
+        }
+    }
+}
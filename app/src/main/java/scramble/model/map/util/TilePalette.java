@@ -0,0 +1,141 @@
+package scramble.model.map.util;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import scramble.model.common.util.BufferedImageManager;
+
+/**
+ * Palette of the tiles the landscape is drawn with.
+ *
+ * <p>
+ * The whole map only uses a few different tiles, so every column stores the
+ * index of its tiles in this palette instead of the images themselves. Two
+ * images with the same size and the same pixels get the same index, and a
+ * single copy of them is kept. The tiles of the palette are shared and must
+ * not be drawn on.
+ * </p>
+ *
+ * <p>
+ * The sprites of the map are shared, see {@code AssetRegistry} and the cached
+ * transforms of {@link BufferedImageManager}, so an image is first looked up
+ * by identity, and its pixels are only compared the first times it is seen.
+ * Only adding a tile takes a lock, so stages can be generated in parallel.
+ * </p>
+ */
+public final class TilePalette {
+
+    /** Maximum number of tiles, so that an index fits in a byte. */
+    public static final int MAX_TILES = 256;
+
+    /* Bound on the images remembered by identity, in case they are not shared. */
+    private static final int MAX_IMAGES = 4096;
+
+    private static final AtomicReferenceArray<BufferedImage> TILES = new AtomicReferenceArray<>(MAX_TILES);
+    private static final Map<TileKey, Byte> INDEXES = new ConcurrentHashMap<>();
+    private static final Map<BufferedImage, Byte> IMAGES = new ConcurrentHashMap<>();
+    private static final Object LOCK = new Object();
+    private static volatile int count;
+
+    private TilePalette() {
+    }
+
+    /**
+     * Returns the index of a tile, adding it to the palette if it is new.
+     *
+     * @param tile the image of the tile
+     * @return the index of the tile
+     * @throws IllegalStateException if the palette is full
+     */
+    public static byte indexOf(final BufferedImage tile) {
+        final Byte known = IMAGES.get(tile);
+        if (known != null) {
+            return known;
+        }
+        final TileKey key = new TileKey(tile);
+        Byte index = INDEXES.get(key);
+        if (index == null) {
+            index = add(key, tile);
+        }
+        if (IMAGES.size() < MAX_IMAGES) {
+            IMAGES.put(tile, index);
+        }
+        return index;
+    }
+
+    private static Byte add(final TileKey key, final BufferedImage tile) {
+        synchronized (LOCK) {
+            final Byte index = INDEXES.get(key);
+            if (index != null) {
+                return index;
+            }
+            if (count == MAX_TILES) {
+                throw new IllegalStateException("The tile palette is full");
+            }
+            final byte newIndex = (byte) count;
+            TILES.set(count, BufferedImageManager.cloneBufferedImage(tile));
+            count++;
+            INDEXES.put(key, newIndex);
+            return newIndex;
+        }
+    }
+
+    /**
+     * Getter for a tile of the palette.
+     *
+     * @param index the index returned by {@link #indexOf(BufferedImage)}
+     * @return the shared image of the tile
+     */
+    public static BufferedImage getTile(final byte index) {
+        final int i = Byte.toUnsignedInt(index);
+        if (i >= count) {
+            throw new IndexOutOfBoundsException(i);
+        }
+        return TILES.get(i);
+    }
+
+    /**
+     * Getter for the number of tiles in the palette.
+     *
+     * @return the number of tiles
+     */
+    public static int size() {
+        return count;
+    }
+
+    private static final class TileKey {
+
+        private final int width;
+        private final int height;
+        private final int[] pixels;
+        private final int hash;
+
+        TileKey(final BufferedImage tile) {
+            this.width = tile.getWidth();
+            this.height = tile.getHeight();
+            this.pixels = tile.getRGB(0, 0, this.width, this.height, null, 0, this.width);
+            this.hash = 31 * (31 * this.width + this.height) + Arrays.hashCode(this.pixels);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TileKey)) {
+                return false;
+            }
+            final TileKey other = (TileKey) obj;
+            return this.width == other.width && this.height == other.height
+                    && Arrays.equals(this.pixels, other.pixels);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -52,9 +52,81 @@ public class StageGenerator {
      * @see Pair
      */
     public StageGenerator(final Pair<Integer, Integer> heightCeilingAndFloor) {
+        this(heightCeilingAndFloor, new Random());
+    }
+
+    /**
+     * Constructor for a MapStageGenerator that always picks the same sprites:
+     * two generators with the same heights and the same seed generate the same
+     * stage.
+     *
+     * @param heightCeilingAndFloor {@link Pair} element that contains the height of
+     *                              the ceiling as the first element of the pair and
+     *                              the height of the floor as a second element of
+     *                              the pair
+     * @param seed                  the seed of the choice of the sprites
+     */
+    public StageGenerator(final Pair<Integer, Integer> heightCeilingAndFloor, final long seed) {
+        this(heightCeilingAndFloor, new Random(seed));
+    }
+
+    private StageGenerator(final Pair<Integer, Integer> heightCeilingAndFloor, final Random rand) {
         this.currentYCeilingAndFloor = new PairImpl<>(heightCeilingAndFloor.getFirstElement(),
                 heightCeilingAndFloor.getSecondElement());
-        this.rand = new Random();
+        this.rand = rand;
+    }
+
+    /**
+     * Getter for the height of the ceiling and of the floor where the next stage
+     * starts.
+     *
+     * @return a {@link Pair} with the height of the ceiling and of the floor
+     */
+    public Pair<Integer, Integer> getCurrentHeights() {
+        return new PairImpl<>(this.currentYCeilingAndFloor.getFirstElement(),
+                this.currentYCeilingAndFloor.getSecondElement());
+    }
+
+    /**
+     * Moves the generator to the end of a stage without generating it. It is much
+     * cheaper than {@link #convertDataToMapStage}, since no sprite is picked and
+     * no column is built.
+     *
+     * @param rawData     the raw data relative to the map stage
+     * @param stageLength the length of the stage
+     * @return the number of columns that the stage would have
+     */
+    public int skipStage(final RawData rawData, final int stageLength) {
+        return this.skipStage(rawData, stageLength, new ArrayList<>());
+    }
+
+    /**
+     * Moves the generator to the end of a stage without generating it, like
+     * {@link #skipStage(RawData, int)}, collecting the floor that every column
+     * of the stage would have.
+     *
+     * @param rawData     the raw data relative to the map stage
+     * @param stageLength the length of the stage
+     * @param floors      the list where the behaviour and the y coordinate, in
+     *                    pixels, of the floor of every column are added in order
+     * @return the number of columns that the stage would have
+     */
+    public int skipStage(final RawData rawData, final int stageLength,
+            final List<Pair<LandBehaviour, Integer>> floors) {
+        final Pair<List<MapElement>, Integer> ceiling = this.elaborateRawData(StagePart.CEILING,
+                rawData.getCeiling(), stageLength, rawData.getTerrainType(), new ArrayList<>());
+        currentYCeilingAndFloor.setFirstElement(ceiling.getSecondElement());
+
+        final List<Pair<LandBehaviour, Integer>> skippedFloors = new ArrayList<>();
+        final Pair<List<MapElement>, Integer> floor = this.elaborateRawData(StagePart.FLOOR, rawData.getFloor(),
+                stageLength, rawData.getTerrainType(), skippedFloors);
+        currentYCeilingAndFloor.setSecondElement(floor.getSecondElement());
+
+        if (ceiling.getFirstElement().size() != floor.getFirstElement().size()) {
+            return 0;
+        }
+        floors.addAll(skippedFloors);
+        return ceiling.getFirstElement().size();
     }
 
     /**
@@ -75,11 +147,11 @@ public class StageGenerator {
         final Pair<List<MapElement>, Integer> elaboratedDataFloor;
 
         elaboratedDataCeiling = this.elaborateRawData(StagePart.CEILING, rawData.getCeiling(), stageLength,
-                rawData.getTerrainType());
+                rawData.getTerrainType(), null);
         currentYCeilingAndFloor.setFirstElement(elaboratedDataCeiling.getSecondElement());
 
         elaboratedDataFloor = this.elaborateRawData(StagePart.FLOOR, rawData.getFloor(), stageLength,
-                rawData.getTerrainType());
+                rawData.getTerrainType(), null);
         currentYCeilingAndFloor.setSecondElement(elaboratedDataFloor.getSecondElement());
 
         if (elaboratedDataCeiling.getFirstElement().size() != elaboratedDataFloor.getFirstElement().size()) {
@@ -193,8 +265,14 @@ public class StageGenerator {
 
     }
 
+    /*
+     * When skipped is not null only the heights are followed: the returned list
+     * has a null placeholder for every element that would have been built, and
+     * its behaviour and y coordinate are added to skipped.
+     */
     private Pair<List<MapElement>, Integer> elaborateRawData(final StagePart stagePart,
-            final List<SegmentRawData> rawData, final int stageLength, final TerrainType terrainType) {
+            final List<SegmentRawData> rawData, final int stageLength, final TerrainType terrainType,
+            final List<Pair<LandBehaviour, Integer>> skipped) {
         final List<MapElement> elaboratedData = new ArrayList<>();
         int index = 0;
 
@@ -211,20 +289,27 @@ public class StageGenerator {
 
         for (int x = 0; x < stageLength; x++) {
 
-            BufferedImage bi = LandUtils.getSprite(this.getSprite(behaviour));
-            if (stagePart == StagePart.CEILING) {
-                bi = BufferedImageManager.rotateBufferedImageWithDegree(bi, 180);
-            }
-            if (behaviour == LandBehaviour.BRICK) {
-                bi = BufferedImageManager.changeColorClockwise(bi, 0);
-            }
+            if (skipped != null) {
+                if (behaviour != LandBehaviour.EMPTY) {
+                    elaboratedData.add(null);
+                    skipped.add(new PairImpl<>(behaviour, LandUtils.multiplyPixelPerSprite(currentY)));
+                }
+            } else {
+                BufferedImage bi = LandUtils.getSprite(this.getSprite(behaviour));
+                if (stagePart == StagePart.CEILING) {
+                    bi = BufferedImageManager.cachedRotation(bi, 180);
+                }
+                if (behaviour == LandBehaviour.BRICK) {
+                    bi = BufferedImageManager.cachedColorClockwise(bi, 0);
+                }
 
-            // to-do: sistemare empty space
-            if (behaviour != LandBehaviour.EMPTY) {
-                elaboratedData.add(new MapElement(
-                        LandUtils.multiplyPixelPerSprite(x), LandUtils.multiplyPixelPerSprite(currentY),
-                        LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
-                        bi, terrainType, behaviour));
+                // to-do: sistemare empty space
+                if (behaviour != LandBehaviour.EMPTY) {
+                    elaboratedData.add(new MapElement(
+                            LandUtils.multiplyPixelPerSprite(x), LandUtils.multiplyPixelPerSprite(currentY),
+                            LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
+                            bi, terrainType, behaviour));
+                }
             }
 
             if (x == length) {
@@ -0,0 +1,230 @@
+package scramble.model.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import scramble.model.world.InputButton;
+import scramble.model.world.InputFrame;
+
+/**
+ * The input of a game, tick by tick, with the seed of the world it was played
+ * on: replayed on a new world with the same seed, it plays the same game. The
+ * input of a tick is the bit mask of its {@link InputFrame}, kept in a byte.
+ *
+ * <p>
+ * Every {@link #CHECKPOINT_PERIOD} ticks the log also keeps a checksum of the
+ * world, see {@link scramble.model.world.GameWorld#checksum()}, so that a
+ * replay can tell where it went apart from the game it was recorded from.
+ * </p>
+ *
+ * <p>
+ * In a stream the log is written as a header, with the seed and the number of
+ * ticks, followed by the input as runs of the same mask, since a button is held
+ * for many ticks, and by the checksums.
+ * </p>
+ */
+public final class InputLog {
+
+    /** Number of ticks between two checksums of the world. */
+    public static final int CHECKPOINT_PERIOD = 256;
+
+    private static final int MAGIC = 0x5343_524C;
+    private static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MORE = 1 << VARINT_BITS;
+    private static final int VARINT_VALUE = VARINT_MORE - 1;
+    private static final int MASK_LIMIT = 1 << InputButton.values().length;
+    private static final InputFrame[] FRAMES = new InputFrame[MASK_LIMIT];
+
+    static {
+        for (int mask = 0; mask < MASK_LIMIT; mask++) {
+            FRAMES[mask] = new InputFrame(mask);
+        }
+    }
+
+    private final long seed;
+    private byte[] masks = new byte[INITIAL_CAPACITY];
+    private int size;
+    private long[] checksums = new long[INITIAL_CAPACITY / CHECKPOINT_PERIOD];
+    private int checkpoints;
+
+    /**
+     * Constructor for an empty log.
+     *
+     * @param seed the seed of the world the game is played on
+     */
+    public InputLog(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Getter for the seed of the world the game was played on.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Getter for the number of ticks in the log.
+     *
+     * @return the number of ticks
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter for the input of a tick. The frames are shared, the same mask
+     * always gives the same instance.
+     *
+     * @param tick the tick, from 0
+     * @return the input of the tick
+     */
+    public InputFrame get(final int tick) {
+        if (tick < 0 || tick >= this.size) {
+            throw new IndexOutOfBoundsException(tick);
+        }
+        return FRAMES[this.masks[tick]];
+    }
+
+    /**
+     * Adds the input of the next tick.
+     *
+     * @param frame the input
+     */
+    public void append(final InputFrame frame) {
+        if (frame.getMask() < 0 || frame.getMask() >= MASK_LIMIT) {
+            throw new IllegalArgumentException("Unknown buttons in the mask " + frame.getMask());
+        }
+        if (this.size == this.masks.length) {
+            this.masks = Arrays.copyOf(this.masks, this.size * 2);
+        }
+        this.masks[this.size++] = (byte) frame.getMask();
+    }
+
+    /**
+     * Getter for the number of checksums in the log.
+     *
+     * @return the number of checksums
+     */
+    public int checkpoints() {
+        return this.checkpoints;
+    }
+
+    /**
+     * Getter for a checksum of the world. The checksum n is taken after
+     * {@code (n + 1) * CHECKPOINT_PERIOD} ticks.
+     *
+     * @param checkpoint the index of the checksum
+     * @return the checksum
+     */
+    public long checksum(final int checkpoint) {
+        if (checkpoint < 0 || checkpoint >= this.checkpoints) {
+            throw new IndexOutOfBoundsException(checkpoint);
+        }
+        return this.checksums[checkpoint];
+    }
+
+    /**
+     * Writes the log to a stream. The stream is not closed.
+     *
+     * @param out the stream
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(this.seed);
+        data.writeInt(this.size);
+        int tick = 0;
+        while (tick < this.size) {
+            final byte mask = this.masks[tick];
+            int run = 1;
+            while (tick + run < this.size && this.masks[tick + run] == mask) {
+                run++;
+            }
+            data.writeByte(mask);
+            writeVarInt(data, run);
+            tick += run;
+        }
+        data.writeInt(this.checkpoints);
+        for (int i = 0; i < this.checkpoints; i++) {
+            data.writeLong(this.checksums[i]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a log written by {@link #writeTo}. The stream is not closed.
+     *
+     * @param in the stream
+     * @return the log
+     * @throws IOException if the stream cannot be read or is not a log
+     */
+    public static InputLog readFrom(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readByte() != VERSION) {
+            throw new IOException("Not an input log");
+        }
+        final InputLog log = new InputLog(data.readLong());
+        final int size = data.readInt();
+        if (size < 0) {
+            throw new IOException("Corrupted input log");
+        }
+        log.masks = new byte[Math.max(size, 1)];
+        while (log.size < size) {
+            final int mask = data.readByte();
+            final int run = readVarInt(data);
+            if (mask < 0 || mask >= MASK_LIMIT || run <= 0 || run > size - log.size) {
+                throw new IOException("Corrupted input log");
+            }
+            Arrays.fill(log.masks, log.size, log.size + run, (byte) mask);
+            log.size += run;
+        }
+        final int checkpoints = data.readInt();
+        if (checkpoints < 0 || checkpoints > size / CHECKPOINT_PERIOD) {
+            throw new IOException("Corrupted input log");
+        }
+        for (int i = 0; i < checkpoints; i++) {
+            log.addChecksum(data.readLong());
+        }
+        return log;
+    }
+
+    void addChecksum(final long checksum) {
+        if (this.checkpoints == this.checksums.length) {
+            this.checksums = Arrays.copyOf(this.checksums, Math.max(1, this.checkpoints * 2));
+        }
+        this.checksums[this.checkpoints++] = checksum;
+    }
+
+    /* Writes 7 bits per byte, the high bit tells if more bytes follow. */
+    private static void writeVarInt(final DataOutputStream data, final int value) throws IOException {
+        int rest = value;
+        while (rest >= VARINT_MORE) {
+            data.writeByte(rest & VARINT_VALUE | VARINT_MORE);
+            rest >>>= VARINT_BITS;
+        }
+        data.writeByte(rest);
+    }
+
+    private static int readVarInt(final DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += VARINT_BITS) {
+            final int b = data.readUnsignedByte();
+            value |= (b & VARINT_VALUE) << shift;
+            if ((b & VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupted input log");
+    }
+}
@@ -0,0 +1,50 @@
+package scramble.model.replay;
+
+import scramble.model.world.GameWorld;
+import scramble.model.world.InputFrame;
+
+/**
+ * Steps a {@link GameWorld} and records its input in an {@link InputLog},
+ * together with a checksum of the world every
+ * {@link InputLog#CHECKPOINT_PERIOD} ticks. The recording starts from the
+ * game that was started last, so the world must not have been stepped since
+ * it was created or reset.
+ */
+public final class InputRecorder {
+
+    private final GameWorld world;
+    private final InputLog log;
+
+    /**
+     * Class constructor.
+     *
+     * @param world the world, just created or reset
+     */
+    public InputRecorder(final GameWorld world) {
+        this.world = world;
+        this.log = new InputLog(world.getSeed());
+    }
+
+    /**
+     * Records the input of a tick and steps the world with it.
+     *
+     * @param input the input of the player for this tick
+     */
+    public void step(final InputFrame input) {
+        this.log.append(input);
+        this.world.step(input);
+        if (this.log.size() % InputLog.CHECKPOINT_PERIOD == 0) {
+            this.log.addChecksum(this.world.checksum());
+        }
+    }
+
+    /**
+     * Getter for the log recorded so far, that keeps growing while the world
+     * is stepped.
+     *
+     * @return the log
+     */
+    public InputLog getLog() {
+        return this.log;
+    }
+}
@@ -0,0 +1,119 @@
+package scramble.model.replay;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import scramble.controller.map.MapController;
+import scramble.model.common.api.RandomService;
+import scramble.model.common.impl.RandomServiceImpl;
+import scramble.model.world.GameWorld;
+import scramble.model.world.TickScheduler;
+
+/**
+ * Plays an {@link InputLog} on a new {@link GameWorld} with the seed of the
+ * log. The player is not bound to the clock: every call to {@link #advance}
+ * steps as many ticks as asked, so a replay can be watched at any speed or
+ * run to the end at once.
+ *
+ * <p>
+ * At every checkpoint of the log the checksum of the world is compared with
+ * the recorded one: the first tick where they differ is where the replay went
+ * apart from the recorded game.
+ * </p>
+ */
+public final class ReplayPlayer {
+
+    private final InputLog log;
+    private final GameWorld world;
+    private int tick;
+    private int desyncTick = -1;
+
+    /**
+     * Class constructor.
+     *
+     * @param log the log to play
+     */
+    public ReplayPlayer(final InputLog log) {
+        this(log, new TickScheduler());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param log       the log to play
+     * @param scheduler the scheduler that runs the systems of a tick of the
+     *                  world
+     */
+    public ReplayPlayer(final InputLog log, final TickScheduler scheduler) {
+        final RandomService random = new RandomServiceImpl(log.getSeed());
+        this.log = log;
+        this.world = new GameWorld(new MapController(random), random, scheduler);
+    }
+
+    /**
+     * Steps the world with the input of the next ticks of the log.
+     *
+     * @param ticks the number of ticks to step
+     * @return the number of ticks stepped, less than asked at the end of the log
+     */
+    public int advance(final int ticks) {
+        final int end = (int) Math.min(this.log.size(), (long) this.tick + Math.max(0, ticks));
+        final int start = this.tick;
+        while (this.tick < end) {
+            this.world.step(this.log.get(this.tick));
+            this.tick++;
+            final int checkpoint = this.tick / InputLog.CHECKPOINT_PERIOD - 1;
+            if (this.tick % InputLog.CHECKPOINT_PERIOD == 0 && checkpoint < this.log.checkpoints()
+                    && this.desyncTick < 0 && this.world.checksum() != this.log.checksum(checkpoint)) {
+                this.desyncTick = this.tick;
+            }
+        }
+        return this.tick - start;
+    }
+
+    /**
+     * Steps the world until the end of the log.
+     *
+     * @return the number of ticks stepped
+     */
+    public int runToEnd() {
+        return this.advance(this.log.size() - this.tick);
+    }
+
+    /**
+     * Tells if the whole log has been played.
+     *
+     * @return true if there are no ticks left
+     */
+    public boolean isFinished() {
+        return this.tick == this.log.size();
+    }
+
+    /**
+     * Getter for the number of ticks played.
+     *
+     * @return the number of ticks
+     */
+    public int getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Getter for the first checkpoint whose checksum differs from the one in
+     * the log.
+     *
+     * @return the tick of the checkpoint, or -1 if the replay is in sync
+     */
+    public int getDesyncTick() {
+        return this.desyncTick;
+    }
+
+    /**
+     * Getter for the world the log is played on.
+     *
+     * @return the world
+     */
+    @SuppressFBWarnings
+    public GameWorld getWorld() {
+        return this.world;
+    }
+}
@@ -19,13 +19,17 @@ import java.nio.charset.StandardCharsets;
 /**
  * This class handles the score board. It creates a list to be display in the
  * start menu.
+ *
+ * <p>
+ * The list is immutable and replaced as a whole when a score is added, so the
+ * thread that draws the menu can read it while the EDT adds a score.
+ * </p>
  */
 public class Scores {
 
     private static final Logger LOG = Logger.getLogger(Scores.class.getName());
     private static final String SCORES_FILE_PATH = System.getProperty("user.home") + "/scores.json";
-    private static List<Integer> scoresList = new ArrayList<>(Constants.MAX_N_SCORES);
-    private static int currentScore;
+    private static volatile List<Integer> scoresList = List.of();
 
     /**
      * Class constructor.
@@ -39,9 +43,7 @@ public class Scores {
                 final Gson gson = new Gson();
                 final ScoreData loadedScores = gson.fromJson(reader, ScoreData.class);
                 if (loadedScores != null) {
-                    for (final int i : loadedScores.getScores()) {
-                        scoresList.add(i);
-                    }
+                    scoresList = List.copyOf(loadedScores.getScores());
                 }
                 reader.close();
             } catch (IOException e) {
@@ -54,48 +56,27 @@ public class Scores {
         }
     }
 
-    /**
-     * Getter for current score.
-     *
-     * @return an int
-     */
-    public static int getCurrentScore() {
-        return currentScore;
-    }
-
-    /**
-     * Increments the current score.
-     *
-     * @param enemyPoints the amount of point to add
-     */
-    public static void incrementCurrentScore(final int enemyPoints) {
-        currentScore += enemyPoints;
-    }
-
-    /** Resets current score. */
-    public static void resetCurrentScore() {
-        currentScore = 0;
-    }
-
     /**
      * Adds a score to the scoreboard.
      *
      * @param score the new score
      */
-    public static void addScore(final int score) {
+    public static synchronized void addScore(final int score) {
+        final List<Integer> updated = new ArrayList<>(scoresList);
         for (int i = 0; i < Constants.MAX_N_SCORES; i++) {
-            if (score > scoresList.get(i)) {
-                scoresList.add(i, score); // Insert the score at the right place
-                if (scoresList.size() > Constants.MAX_N_SCORES) {
-                    scoresList.remove(scoresList.size() - 1); // Remove the last element if the list exceeds the limit
+            if (score > updated.get(i)) {
+                updated.add(i, score); // Insert the score at the right place
+                if (updated.size() > Constants.MAX_N_SCORES) {
+                    updated.remove(updated.size() - 1); // Remove the last element if the list exceeds the limit
                 }
                 break;
             }
         }
+        scoresList = List.copyOf(updated);
 
         try (FileWriter writer = new FileWriter(SCORES_FILE_PATH, StandardCharsets.UTF_8)) {
             final Gson gson = new Gson();
-            final ScoreData updatedScores = new ScoreData(scoresList);
+            final ScoreData updatedScores = new ScoreData(updated);
             gson.toJson(updatedScores, writer);
             writer.flush();
         } catch (IOException e) {
@@ -107,17 +88,17 @@ public class Scores {
     /**
      * Getter for the score's list.
      *
-     * @return the score's list
+     * @return the score's list, that cannot be modified
      */
     public List<Integer> getScoresList() {
-        return new ArrayList<>(scoresList);
+        return scoresList;
     }
 
     /**
      * This method clears the scoreboard.
      */
     public void resetScores() {
-        scoresList.clear();
+        scoresList = List.of();
     }
 
     // Nested class for json data handling
@@ -140,9 +121,7 @@ public class Scores {
             final Gson gson = new Gson();
             final ScoreData loadedScores = gson.fromJson(reader, ScoreData.class);
             if (loadedScores != null) {
-                for (final int i : loadedScores.getScores()) {
-                    scoresList.add(i);
-                }
+                scoresList = List.copyOf(loadedScores.getScores());
             }
             reader.close();
         } catch (IOException e) {
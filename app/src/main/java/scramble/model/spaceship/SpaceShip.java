@@ -1,18 +1,15 @@
 package scramble.model.spaceship;
 
 import scramble.model.common.impl.GameElementImpl;
-import scramble.model.common.impl.PairImpl;
-import scramble.model.enemy.Rocket;
+import scramble.model.common.util.AssetRegistry;
+import scramble.model.common.util.enums.Asset;
+import scramble.model.map.api.TerrainIndex;
 import scramble.model.map.impl.MapElement;
 import scramble.utility.Constants;
 
-import java.io.IOException;
-import java.util.logging.Logger;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Random;
 
 /**
@@ -23,7 +20,6 @@ import java.util.Random;
  */
 public final class SpaceShip extends GameElementImpl implements Cloneable {
 
-    private static final Logger LOG = Logger.getLogger(SpaceShip.class.getName());
     private static final int ANGLE = 45;
 
     private final List<BufferedImage> sprites;
@@ -44,25 +40,8 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
      */
     public SpaceShip(final int startX, final int startY, final int width, final int height) {
         super(startX, startY, width, height);
-        this.sprites = new ArrayList<>();
-        for (int i = 1; i <= Constants.SPRITE_SPACESHIP; i++) {
-            try {
-                sprites.add(ImageIO.read(getClass().getResource("/ship/ship" + i + ".png")));
-            } catch (IOException e) {
-                LOG.severe("Ops!");
-                LOG.severe(e.toString());
-            }
-        }
-        this.explosionSprites = new ArrayList<>();
-        for (int i = 1; i <= Constants.SPRITE_SPACESHIP_EXPLOSION; i++) {
-            try {
-                explosionSprites
-                        .add(ImageIO.read(getClass().getResource("/ship/explosion/ship_explosion_frame" + i + ".png")));
-            } catch (IOException e) {
-                LOG.severe("Ops!");
-                LOG.severe(e.toString());
-            }
-        }
+        this.sprites = AssetRegistry.getFrames(Asset.SHIP);
+        this.explosionSprites = AssetRegistry.getFrames(Asset.SHIP_EXPLOSION);
         random = new Random();
         this.hit = false;
 
@@ -98,8 +77,7 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
             ySpeed *= Math.cos(ANGLE);
         }
 
-        updatePosition(new PairImpl<>(getPosition().getFirstElement() + xSpeed,
-                getPosition().getSecondElement() + ySpeed));
+        moveBy(xSpeed, ySpeed);
     }
 
     /** {@inheritDoc} */
@@ -126,6 +104,22 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
         return false;
     }
 
+    /**
+     * Check if the spaceship is colliding with the terrain.
+     *
+     * @param terrain the terrain of the map
+     * @param mapX    the x coordinate of the map at the left border of the
+     *                screen
+     * @return true it has touched the terrain
+     */
+    public boolean checkGroundCollision(final TerrainIndex terrain, final int mapX) {
+        if (terrain.hitsTerrain(x() + mapX, y(), width(), height())) {
+            hit = true;
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Returns randomised image for explosion animation.
      *
@@ -224,25 +218,4 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
         this.down = down;
     }
 
-    /**
-     * Check if its happened a collision between a {@link Rocket} and the
-     * {@code SpaceShip}.
-     *
-     * @param rockets the list of {@link Rocket} thet can cause a collision
-     *
-     * @return {@code true} if the {@code SpaceShip} has collided, {@code fales}
-     *         otherwise
-     */
-    public boolean checkEnemyCollision(final List<Rocket> rockets) {
-        for (final Rocket rocket : rockets) {
-            if (rocket.hasCollided(this)) {
-                this.hit = true;
-                setHit(true);
-                return true;
-            }
-
-        }
-        return false;
-    }
-
 }
@@ -0,0 +1,160 @@
+package scramble.model.world;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.util.LandUtils;
+
+/**
+ * Window of consecutive columns of the map, kept in a ring buffer twice as
+ * long as the window.
+ *
+ * <p>
+ * When the window moves forward by a few columns only the new columns are
+ * loaded, in the slots right after its end; a bigger move, or a move
+ * backwards, loads the whole window again in the slots after its end. Either
+ * way only the slots of the columns that left the window first are
+ * overwritten. The window is itself the list of its columns, from the first
+ * one, so it can be read without copying it; an iteration that spans a move
+ * fails fast.
+ * </p>
+ *
+ * <p>
+ * A {@link #view()} is the list of the columns of the window as it is, made
+ * without copying them: it reads the same slots of the ring, so it stays the
+ * same until the window has moved by its whole capacity again.
+ * </p>
+ */
+public final class ColumnWindow extends AbstractList<MapColumn> implements RandomAccess {
+
+    private final IntFunction<MapColumn> source;
+    private final MapColumn[] ring;
+    private final int capacity;
+    private int first;
+    private int head;
+    private int size;
+
+    /**
+     * Constructor for the class {@code ColumnWindow}. The window is created
+     * empty.
+     *
+     * @param source   the function that loads a column of the map given its
+     *                 index
+     * @param capacity the number of columns in the window
+     */
+    public ColumnWindow(final IntFunction<MapColumn> source, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The window must hold at least one column");
+        }
+        this.source = source;
+        this.capacity = capacity;
+        this.ring = new MapColumn[capacity * 2];
+    }
+
+    /**
+     * Moves the window so that it starts at the given column.
+     *
+     * @param firstColumn the index of the new first column
+     * @return true if the window changed
+     */
+    public boolean moveTo(final int firstColumn) {
+        final int shift = firstColumn - this.first;
+        if (this.size == this.capacity && shift == 0) {
+            return false;
+        }
+        this.modCount++;
+        if (this.size == this.capacity && shift > 0 && shift < this.capacity) {
+            for (int i = 0; i < shift; i++) {
+                this.ring[(this.head + this.capacity) % this.ring.length] = this.source
+                        .apply(this.first + this.capacity);
+                this.head = (this.head + 1) % this.ring.length;
+                this.first++;
+            }
+        } else {
+            // The new window goes after the old one, that stays as it is
+            final int start = this.size == 0 ? 0 : (this.head + this.capacity) % this.ring.length;
+            for (int i = 0; i < this.capacity; i++) {
+                this.ring[(start + i) % this.ring.length] = this.source.apply(firstColumn + i);
+            }
+            this.first = firstColumn;
+            this.head = start;
+            this.size = this.capacity;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the columns of the window as it is now, without copying them.
+     *
+     * @return an unmodifiable list of the columns, that does not follow the
+     *         next moves of the window
+     */
+    public List<MapColumn> view() {
+        return new View(this.ring, this.head, this.size);
+    }
+
+    /**
+     * Getter for the index in the map of the first column of the window.
+     *
+     * @return the index of the first column
+     */
+    public int getFirstColumn() {
+        return this.first;
+    }
+
+    /**
+     * Returns the column of the window at a x coordinate of the map.
+     *
+     * @param mapX the x coordinate in the map
+     * @return the column, or null if it is out of the window
+     */
+    public MapColumn getAtX(final int mapX) {
+        final int index = Math.floorDiv(mapX, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE) - this.first;
+        return index >= 0 && index < this.size ? this.get(index) : null;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public MapColumn get(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.ring[(this.head + index) % this.ring.length];
+    }
+
+    /** @inheritDoc */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /* The columns of some slots of the ring, from a first one. */
+    private static final class View extends AbstractList<MapColumn> implements RandomAccess {
+
+        private final MapColumn[] ring;
+        private final int head;
+        private final int size;
+
+        private View(final MapColumn[] ring, final int head, final int size) {
+            this.ring = ring;
+            this.head = head;
+            this.size = size;
+        }
+
+        @Override
+        public MapColumn get(final int index) {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return this.ring[(this.head + index) % this.ring.length];
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package scramble.model.world;
+
+import java.util.Arrays;
+
+import scramble.model.common.util.enums.Asset;
+
+/**
+ * A list of draw commands of a {@link RenderSnapshot}: every command draws a
+ * frame of an {@link Asset} in a box. The commands are kept in parallel
+ * primitive arrays, that are reused when the list is filled again.
+ *
+ * <p>
+ * A command also has the position of the box at the previous update, so that
+ * it can be drawn anywhere between the two, see {@link #x(int, double)}.
+ * </p>
+ */
+public final class DrawList {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Asset[] ASSETS = Asset.values();
+
+    private int[] assets = new int[INITIAL_CAPACITY];
+    private int[] frames = new int[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int[] previousXs = new int[INITIAL_CAPACITY];
+    private int[] previousYs = new int[INITIAL_CAPACITY];
+    private int[] widths = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Getter for the number of commands.
+     *
+     * @return the number of commands
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter for the asset drawn by a command.
+     *
+     * @param index the index of the command
+     * @return the asset
+     */
+    public Asset asset(final int index) {
+        return ASSETS[this.assets[this.check(index)]];
+    }
+
+    /**
+     * Getter for the frame drawn by a command. It may be greater than the
+     * number of frames of the asset, the one who draws takes it modulo.
+     *
+     * @param index the index of the command
+     * @return the frame
+     */
+    public int frame(final int index) {
+        return this.frames[this.check(index)];
+    }
+
+    /**
+     * Getter for the x coordinate of a command.
+     *
+     * @param index the index of the command
+     * @return the x coordinate
+     */
+    public int x(final int index) {
+        return this.xs[this.check(index)];
+    }
+
+    /**
+     * Getter for the y coordinate of a command.
+     *
+     * @param index the index of the command
+     * @return the y coordinate
+     */
+    public int y(final int index) {
+        return this.ys[this.check(index)];
+    }
+
+    /**
+     * Getter for the x coordinate of a command between the previous update and
+     * the last one.
+     *
+     * @param index the index of the command
+     * @param alpha how far from the previous update, from 0 to 1
+     * @return the x coordinate, rounded
+     */
+    public int x(final int index, final double alpha) {
+        return interpolate(this.previousXs[this.check(index)], this.xs[index], alpha);
+    }
+
+    /**
+     * Getter for the y coordinate of a command between the previous update and
+     * the last one.
+     *
+     * @param index the index of the command
+     * @param alpha how far from the previous update, from 0 to 1
+     * @return the y coordinate, rounded
+     */
+    public int y(final int index, final double alpha) {
+        return interpolate(this.previousYs[this.check(index)], this.ys[index], alpha);
+    }
+
+    /**
+     * Getter for the width of a command.
+     *
+     * @param index the index of the command
+     * @return the width
+     */
+    public int width(final int index) {
+        return this.widths[this.check(index)];
+    }
+
+    /**
+     * Getter for the height of a command.
+     *
+     * @param index the index of the command
+     * @return the height
+     */
+    public int height(final int index) {
+        return this.heights[this.check(index)];
+    }
+
+    void clear() {
+        this.size = 0;
+    }
+
+    static int interpolate(final int from, final int to, final double alpha) {
+        return (int) Math.round(from + (to - from) * alpha);
+    }
+
+    void add(final Asset asset, final int frame, final int x, final int y, final int width, final int height) {
+        if (this.size == this.xs.length) {
+            this.grow();
+        }
+        this.assets[this.size] = asset.ordinal();
+        this.frames[this.size] = frame;
+        this.xs[this.size] = x;
+        this.ys[this.size] = y;
+        this.previousXs[this.size] = x;
+        this.previousYs[this.size] = y;
+        this.widths[this.size] = width;
+        this.heights[this.size] = height;
+        this.size++;
+    }
+
+    /* Sets where the last command was at the previous update, by default where it is. */
+    void movedFrom(final int previousX, final int previousY) {
+        this.previousXs[this.size - 1] = previousX;
+        this.previousYs[this.size - 1] = previousY;
+    }
+
+    private int check(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+
+    private void grow() {
+        final int capacity = this.xs.length * 2;
+        this.assets = Arrays.copyOf(this.assets, capacity);
+        this.frames = Arrays.copyOf(this.frames, capacity);
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.previousXs = Arrays.copyOf(this.previousXs, capacity);
+        this.previousYs = Arrays.copyOf(this.previousYs, capacity);
+        this.widths = Arrays.copyOf(this.widths, capacity);
+        this.heights = Arrays.copyOf(this.heights, capacity);
+    }
+}
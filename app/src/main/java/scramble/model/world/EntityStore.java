@@ -0,0 +1,411 @@
+package scramble.model.world;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Store of the entities of a kind, kept as parallel primitive arrays instead
+ * of one object per entity: the systems of the {@link GameWorld} update them
+ * with linear loops over the arrays.
+ *
+ * <p>
+ * The entities are packed from index 0 to {@link #size()} - 1 and sorted by
+ * their x coordinate, that never changes: they are added in order of x by the
+ * spawn timelines, so a box can be checked against them with a binary search.
+ * An index is only valid until the next {@link #add} or {@link #removeIf}, so
+ * whoever needs to find an entity later keeps its handle, that stays the same
+ * for its whole life and is never valid again once it is removed.
+ * </p>
+ */
+public final class EntityStore {
+
+    /** Flag of an entity hit by the player. */
+    public static final int HIT = 1;
+    /** Flag of an entity that hit the terrain. */
+    public static final int CRASHED = 1 << 1;
+    /** Flag of an exploding entity. */
+    public static final int EXPLODED = 1 << 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int[] previousYs = new int[INITIAL_CAPACITY];
+    private int[] widths = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private int[] states = new int[INITIAL_CAPACITY];
+    private int[] flags = new int[INITIAL_CAPACITY];
+    private int[] counters = new int[INITIAL_CAPACITY];
+    private int[] frames = new int[INITIAL_CAPACITY];
+    private int[] handles = new int[INITIAL_CAPACITY];
+    private int size;
+    private int maxWidth;
+
+    // Slot of a handle -> index of the entity, or -1, and generation of the slot
+    private int[] indexes = new int[INITIAL_CAPACITY];
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int slotCount;
+
+    /**
+     * Adds an entity, with state, flags, counter and frame set to 0.
+     *
+     * @param x      the x coordinate
+     * @param y      the y coordinate
+     * @param width  the width
+     * @param height the height
+     * @return the handle of the entity
+     */
+    public int add(final int x, final int y, final int width, final int height) {
+        if (this.size == this.xs.length) {
+            this.grow();
+        }
+        int index = this.size;
+        // Entities come in order of x, only a restart of the map goes back
+        if (index > 0 && this.xs[index - 1] > x) {
+            index = this.lowerBound(x + 1);
+            this.shift(index);
+        }
+        final int slot = this.newSlot();
+        this.xs[index] = x;
+        this.ys[index] = y;
+        this.previousYs[index] = y;
+        this.widths[index] = width;
+        this.heights[index] = height;
+        this.states[index] = 0;
+        this.flags[index] = 0;
+        this.counters[index] = 0;
+        this.frames[index] = 0;
+        this.handles[index] = this.generations[slot] << SLOT_BITS | slot;
+        this.indexes[slot] = index;
+        this.size++;
+        this.maxWidth = Math.max(this.maxWidth, width);
+        return this.handles[index];
+    }
+
+    /**
+     * Removes, in a single pass, the entities that match a condition, keeping
+     * the order of the others.
+     *
+     * @param condition the condition on the index of an entity, called once for
+     *                  every entity in order
+     */
+    public void removeIf(final IntPredicate condition) {
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            final int slot = this.handles[i] & SLOT_MASK;
+            if (condition.test(i)) {
+                this.freeSlot(slot);
+            } else {
+                if (kept != i) {
+                    this.move(i, kept);
+                }
+                this.indexes[slot] = kept;
+                kept++;
+            }
+        }
+        this.size = kept;
+    }
+
+    /** Removes all the entities. */
+    public void clear() {
+        this.removeIf(i -> true);
+        this.maxWidth = 0;
+    }
+
+    /**
+     * Getter for the number of entities.
+     *
+     * @return the number of entities
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the index of the entity of a handle.
+     *
+     * @param handle the handle of the entity
+     * @return the index, or -1 if the entity has been removed
+     */
+    public int indexOf(final int handle) {
+        final int slot = handle & SLOT_MASK;
+        if (slot >= this.slotCount || this.generations[slot] != handle >>> SLOT_BITS) {
+            return -1;
+        }
+        return this.indexes[slot];
+    }
+
+    /**
+     * Returns the handle of the entity at an index.
+     *
+     * @param index the index of the entity
+     * @return the handle
+     */
+    public int handleAt(final int index) {
+        return this.handles[this.check(index)];
+    }
+
+    /**
+     * Returns the index of the first entity that intersects a box.
+     *
+     * @param x      the x coordinate of the box
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return the index of the entity, or -1 if there is none
+     */
+    public int firstIntersecting(final int x, final int y, final int width, final int height) {
+        if (width <= 0 || height <= 0) {
+            return -1;
+        }
+        for (int i = this.lowerBound(x - this.maxWidth + 1); i < this.size && this.xs[i] < x + width; i++) {
+            if (this.widths[i] > 0 && this.heights[i] > 0
+                    && x < this.xs[i] + this.widths[i] && y < this.ys[i] + this.heights[i]
+                    && this.ys[i] < y + height) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Moves the animation of every entity to its next frame. */
+    public void advanceFrames() {
+        for (int i = 0; i < this.size; i++) {
+            this.frames[i]++;
+        }
+    }
+
+    /**
+     * Remembers the y coordinate of every entity as its previous one, so that
+     * the view can draw the entities between two updates.
+     */
+    public void savePositions() {
+        System.arraycopy(this.ys, 0, this.previousYs, 0, this.size);
+    }
+
+    /**
+     * Getter for the x coordinate of an entity.
+     *
+     * @param index the index of the entity
+     * @return the x coordinate
+     */
+    public int x(final int index) {
+        return this.xs[this.check(index)];
+    }
+
+    /**
+     * Getter for the y coordinate of an entity.
+     *
+     * @param index the index of the entity
+     * @return the y coordinate
+     */
+    public int y(final int index) {
+        return this.ys[this.check(index)];
+    }
+
+    /**
+     * Setter for the y coordinate of an entity. The x coordinate never changes.
+     *
+     * @param index the index of the entity
+     * @param y     the new y coordinate
+     */
+    public void setY(final int index, final int y) {
+        this.ys[this.check(index)] = y;
+    }
+
+    /**
+     * Getter for the y coordinate of an entity at the last
+     * {@link #savePositions()}, or when it was added.
+     *
+     * @param index the index of the entity
+     * @return the previous y coordinate
+     */
+    public int previousY(final int index) {
+        return this.previousYs[this.check(index)];
+    }
+
+    /**
+     * Getter for the width of an entity.
+     *
+     * @param index the index of the entity
+     * @return the width
+     */
+    public int width(final int index) {
+        return this.widths[this.check(index)];
+    }
+
+    /**
+     * Getter for the height of an entity.
+     *
+     * @param index the index of the entity
+     * @return the height
+     */
+    public int height(final int index) {
+        return this.heights[this.check(index)];
+    }
+
+    /**
+     * Getter for the state of an entity, whose meaning depends on its kind.
+     *
+     * @param index the index of the entity
+     * @return the state
+     */
+    public int state(final int index) {
+        return this.states[this.check(index)];
+    }
+
+    /**
+     * Setter for the state of an entity.
+     *
+     * @param index the index of the entity
+     * @param state the new state
+     */
+    public void setState(final int index, final int state) {
+        this.states[this.check(index)] = state;
+    }
+
+    /**
+     * Checks a flag of an entity.
+     *
+     * @param index the index of the entity
+     * @param flag  the flag, like {@link #HIT}
+     * @return true if the flag is set
+     */
+    public boolean hasFlag(final int index, final int flag) {
+        return (this.flags[this.check(index)] & flag) != 0;
+    }
+
+    /**
+     * Sets a flag of an entity.
+     *
+     * @param index the index of the entity
+     * @param flag  the flag, like {@link #HIT}
+     */
+    public void setFlag(final int index, final int flag) {
+        this.flags[this.check(index)] |= flag;
+    }
+
+    /**
+     * Getter for the counter of an entity, used as a timer.
+     *
+     * @param index the index of the entity
+     * @return the counter
+     */
+    public int counter(final int index) {
+        return this.counters[this.check(index)];
+    }
+
+    /**
+     * Setter for the counter of an entity.
+     *
+     * @param index   the index of the entity
+     * @param counter the new counter
+     */
+    public void setCounter(final int index, final int counter) {
+        this.counters[this.check(index)] = counter;
+    }
+
+    /**
+     * Increments the counter of an entity.
+     *
+     * @param index the index of the entity
+     * @return the counter before the increment
+     */
+    public int incrementCounter(final int index) {
+        return this.counters[this.check(index)]++;
+    }
+
+    /**
+     * Getter for the animation frame of an entity. It only grows, the one who
+     * draws the entity takes it modulo its number of sprites.
+     *
+     * @param index the index of the entity
+     * @return the frame
+     */
+    public int frame(final int index) {
+        return this.frames[this.check(index)];
+    }
+
+    private int check(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+
+    /* First index whose x is not lower than the given one. */
+    private int lowerBound(final int x) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.xs[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /* Makes room at an index, moving the entities after it one place on. */
+    private void shift(final int index) {
+        for (int i = this.size; i > index; i--) {
+            this.move(i - 1, i);
+            this.indexes[this.handles[i] & SLOT_MASK] = i;
+        }
+    }
+
+    private void move(final int from, final int to) {
+        this.xs[to] = this.xs[from];
+        this.ys[to] = this.ys[from];
+        this.previousYs[to] = this.previousYs[from];
+        this.widths[to] = this.widths[from];
+        this.heights[to] = this.heights[from];
+        this.states[to] = this.states[from];
+        this.flags[to] = this.flags[from];
+        this.counters[to] = this.counters[from];
+        this.frames[to] = this.frames[from];
+        this.handles[to] = this.handles[from];
+    }
+
+    private int newSlot() {
+        if (this.freeCount > 0) {
+            return this.freeSlots[--this.freeCount];
+        }
+        if (this.slotCount > SLOT_MASK) {
+            throw new IllegalStateException("Too many entities in the store");
+        }
+        if (this.slotCount == this.indexes.length) {
+            this.indexes = Arrays.copyOf(this.indexes, this.slotCount * 2);
+            this.generations = Arrays.copyOf(this.generations, this.slotCount * 2);
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.slotCount * 2);
+        }
+        return this.slotCount++;
+    }
+
+    private void freeSlot(final int slot) {
+        this.indexes[slot] = -1;
+        // The generation wraps around in the bits left by the slot
+        this.generations[slot] = (this.generations[slot] + 1) & (-1 >>> SLOT_BITS);
+        this.freeSlots[this.freeCount++] = slot;
+    }
+
+    private void grow() {
+        final int capacity = this.xs.length * 2;
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.previousYs = Arrays.copyOf(this.previousYs, capacity);
+        this.widths = Arrays.copyOf(this.widths, capacity);
+        this.heights = Arrays.copyOf(this.heights, capacity);
+        this.states = Arrays.copyOf(this.states, capacity);
+        this.flags = Arrays.copyOf(this.flags, capacity);
+        this.counters = Arrays.copyOf(this.counters, capacity);
+        this.frames = Arrays.copyOf(this.frames, capacity);
+        this.handles = Arrays.copyOf(this.handles, capacity);
+    }
+}
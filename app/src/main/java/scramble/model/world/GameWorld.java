@@ -0,0 +1,1016 @@
+package scramble.model.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import scramble.controller.map.MapController;
+import scramble.model.bullets.Bullet;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.api.ObjectPool;
+import scramble.model.common.api.Pair;
+import scramble.model.common.api.RandomService;
+import scramble.model.common.api.SpatialHash;
+import scramble.model.common.api.TimedLinkedList;
+import scramble.model.common.api.TimingWheel;
+import scramble.model.common.impl.ObjectPoolImpl;
+import scramble.model.common.impl.RandomServiceImpl;
+import scramble.model.common.impl.SpatialHashImpl;
+import scramble.model.common.impl.TimedLinkedListImpl;
+import scramble.model.common.impl.TimingWheelImpl;
+import scramble.model.common.util.enums.Asset;
+import scramble.model.enemy.Boss;
+import scramble.model.enemy.RocketState;
+import scramble.model.map.api.TerrainIndex;
+import scramble.model.spaceship.FuelBar;
+import scramble.model.spaceship.SpaceShip;
+import scramble.utility.Constants;
+
+/**
+ * The whole state of a game of Scramble and the rules that make it evolve.
+ *
+ * <p>
+ * The world does not depend on Swing nor on the wall clock: every call to
+ * {@link #step(InputFrame)} advances the game by one tick of
+ * {@link Constants#GAME_TICK_MS} milliseconds, so it can be driven by the game
+ * loop of the view or stepped as fast as possible by a headless runner. Inside
+ * a tick the work is done in the order input, movement, spawn, collision and
+ * scoring.
+ * </p>
+ *
+ * <p>
+ * The rockets, the tanks, the boss and the exploding bombs are kept in the
+ * coordinates of the map, so the ones that stand still cost nothing while the
+ * landscape scrolls. Only the spaceship and its flying bullets live on the
+ * screen: {@link #getCameraX()} converts from one to the other. The rockets
+ * and the tanks are not objects but rows of an {@link EntityStore}, updated by
+ * loops over its arrays.
+ * </p>
+ *
+ * <p>
+ * What the bullets can hit is inserted every tick in a {@link SpatialHash}
+ * that follows the camera, so that a bullet is only tested against the
+ * targets near it.
+ * </p>
+ *
+ * <p>
+ * The movement and the collisions are split in {@link TickSystem}s that a
+ * {@link TickScheduler} runs at the same time when they touch different parts
+ * of the world. What they would change elsewhere, like the score, the fuel,
+ * the removed entities and the bullets that hit something, is applied after
+ * them by the world alone, always in the same order.
+ * </p>
+ */
+public class GameWorld {
+
+    private static final int SCROLL_PERIOD = toTicks(32);
+    private static final int SPAWN_PERIOD = toTicks(64);
+    private static final int FUEL_PERIOD = toTicks(800);
+    private static final int FUEL_CHECK_PERIOD = toTicks(100);
+    private static final int RESTART_DELAY = toTicks(3500);
+    private static final int BULLET_MOVES_PER_SCROLL = 2;
+    private static final long BULLET_EXPLOSION_DURATION = 1000;
+    private static final int MAX_BOMB = 2;
+    private static final int BOSS_DIM = 48;
+    private static final int BOSS_SCREEN_SPEED = 1;
+    private static final int ROCKET_OFFSET = 5;
+    private static final int FUEL_TANK_HEIGHT = 32;
+    private static final int FUEL_TANK_WIDTH = 32;
+    private static final int TANK_SPAWN = 13;
+    private static final int TANK_AVOID = 5;
+    private static final int POOL_SIZE = 64;
+    private static final int CELL_SIZE = 64;
+    private static final long CHECKSUM_PRIME = 31;
+    private static final int MIN_LAUNCH_DELAY = 1000;
+    private static final int PREMOVE = RocketState.PREMOVE.ordinal();
+    private static final int MOVING = RocketState.MOVING.ordinal();
+    private static final int EXPLODED = RocketState.EXPLODED.ordinal();
+
+    /* What a bullet has hit in the last collision check. */
+    private enum Target {
+        NONE, TERRAIN, ROCKET, BOSS, TANK
+    }
+
+    private final Landscape landscape;
+    private final SpaceShip spaceShip;
+    private final FuelBar fuelBar;
+    private final Set<Bullet> bullets;
+    private final TimedLinkedList<Bullet> explodingBullets;
+    private final EntityStore rockets;
+    private final EntityStore tanks;
+    private final TimingWheel launches;
+    private final RandomService random;
+    private RandomGenerator launchDelays;
+    private final SpawnTimeline<Integer> rocketSpawns;
+    private final SpawnTimeline<Integer> tankSpawns;
+    private final Map<BulletType, ObjectPool<Bullet>> bulletPools;
+    private final TickScheduler scheduler;
+    private final List<List<TickSystem>> movePlan;
+    private final List<List<TickSystem>> collisionPlan;
+    private final List<Bullet> checkedBullets;
+    private final SpatialHash targets;
+    private int bossTarget;
+    private int firstTankTarget;
+    private Target[] bulletTargets;
+    private int[] targetIndexes;
+    private Boss boss;
+
+    private WorldState state;
+    private long tick;
+    private long runningTicks;
+    private int restartCountdown;
+    private int mapX;
+    private int lives;
+    private int score;
+    private int stage;
+    private boolean scrolling;
+    private TerrainIndex terrain;
+    private int scrollX;
+    private int previousCameraX;
+    private boolean spaceShipCrashed;
+    private int crashedRocket;
+
+    /**
+     * Class constructor, it loads a new map. The systems of a tick run one
+     * after the other on the calling thread, like in every constructor that
+     * does not take a {@link TickScheduler}: a tick of a single game is too
+     * short to be worth handing to other threads.
+     */
+    public GameWorld() {
+        this(new RandomServiceImpl());
+    }
+
+    /**
+     * Class constructor, it loads the map of a seed.
+     *
+     * @param random the source of everything random in the world
+     */
+    public GameWorld(final RandomService random) {
+        this(new MapController(random), random, TickScheduler.sequential());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param mapController the controller of the map the world is played on
+     */
+    public GameWorld(final MapController mapController) {
+        this(mapController, TickScheduler.sequential());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param mapController the controller of the map the world is played on
+     * @param scheduler     the scheduler that runs the systems of a tick
+     */
+    public GameWorld(final MapController mapController, final TickScheduler scheduler) {
+        this(mapController, new RandomServiceImpl(), scheduler);
+    }
+
+    /**
+     * Class constructor. A world stepped with the same input as another one
+     * with the same map and the same seed goes through the same states, with
+     * any scheduler.
+     *
+     * @param mapController the controller of the map the world is played on
+     * @param random        the source of everything random in the world
+     * @param scheduler     the scheduler that runs the systems of a tick
+     */
+    public GameWorld(final MapController mapController, final RandomService random,
+            final TickScheduler scheduler) {
+        this.landscape = new Landscape(mapController);
+        this.spaceShip = new SpaceShip(Constants.SPACESHIP_STARTER_POSITION,
+                Constants.SPACESHIP_STARTER_POSITION, Constants.SPACESHIP_WIDTH,
+                Constants.SPACESHIP_HEIGHT);
+        this.fuelBar = new FuelBar();
+        this.bullets = new LinkedHashSet<>();
+        this.explodingBullets = new TimedLinkedListImpl<>();
+        this.bulletPools = new EnumMap<>(BulletType.class);
+        for (final BulletType type : BulletType.values()) {
+            this.bulletPools.put(type, new ObjectPoolImpl<>(() -> new Bullet(0, 0, type), POOL_SIZE));
+        }
+        this.rockets = new EntityStore();
+        this.tanks = new EntityStore();
+        this.launches = new TimingWheelImpl();
+        this.random = random;
+        // The entities enter from the right border of the screen, on the floor
+        this.rocketSpawns = new SpawnTimeline<>(this.getRocketPositions(),
+                (x, y) -> this.rockets.add(this.mapX + Constants.WINDOW_WIDTH, y - Constants.ROCKET_HEIGHT,
+                        Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT));
+        this.tankSpawns = new SpawnTimeline<>(this.getTankPositions(),
+                (x, y) -> this.tanks.add(this.mapX + Constants.WINDOW_WIDTH, y - FUEL_TANK_HEIGHT,
+                        FUEL_TANK_WIDTH, FUEL_TANK_HEIGHT));
+        this.scheduler = scheduler;
+        this.movePlan = scheduler.plan(List.of(
+                new TickSystem("spaceship", EnumSet.noneOf(WorldComponent.class),
+                        EnumSet.of(WorldComponent.SPACESHIP), this::moveSpaceShip),
+                new TickSystem("landscape", EnumSet.noneOf(WorldComponent.class),
+                        EnumSet.of(WorldComponent.LANDSCAPE), this::scrollLandscape),
+                new TickSystem("bullets", EnumSet.noneOf(WorldComponent.class),
+                        EnumSet.of(WorldComponent.BULLETS), this::moveBullets),
+                new TickSystem("rockets", EnumSet.noneOf(WorldComponent.class),
+                        EnumSet.of(WorldComponent.ROCKETS), this::updateRockets),
+                new TickSystem("boss", EnumSet.noneOf(WorldComponent.class),
+                        EnumSet.of(WorldComponent.BOSS), this::moveBoss),
+                new TickSystem("tanks", EnumSet.noneOf(WorldComponent.class),
+                        EnumSet.of(WorldComponent.TANKS), this::updateTanks)));
+        this.collisionPlan = scheduler.plan(List.of(
+                new TickSystem("spaceship collisions",
+                        EnumSet.of(WorldComponent.LANDSCAPE, WorldComponent.ROCKETS),
+                        EnumSet.of(WorldComponent.SPACESHIP), this::checkSpaceShipCollisions),
+                new TickSystem("bullet collisions",
+                        EnumSet.of(WorldComponent.LANDSCAPE, WorldComponent.ROCKETS, WorldComponent.BOSS,
+                                WorldComponent.TANKS),
+                        EnumSet.of(WorldComponent.BULLETS), this::checkBulletCollisions),
+                new TickSystem("ceiling collisions",
+                        EnumSet.of(WorldComponent.LANDSCAPE, WorldComponent.ROCKETS),
+                        EnumSet.of(WorldComponent.CRASHED_ROCKET), this::checkEnemyCeilingCollision)));
+        this.checkedBullets = new ArrayList<>();
+        this.targets = new SpatialHashImpl(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, CELL_SIZE);
+        this.bulletTargets = new Target[POOL_SIZE];
+        this.targetIndexes = new int[POOL_SIZE];
+        this.reset();
+    }
+
+    /**
+     * Converts a duration in milliseconds to a number of ticks, rounded to the
+     * nearest tick and never less than one.
+     *
+     * @param ms the duration in milliseconds
+     * @return the number of ticks
+     */
+    public static int toTicks(final int ms) {
+        return Math.max(1, Math.round((float) ms / Constants.GAME_TICK_MS));
+    }
+
+    /**
+     * Starts a new game from the beginning of the map. Every game of the world
+     * starts from the same random numbers.
+     */
+    public final void reset() {
+        this.launchDelays = this.random.stream("launches");
+        this.lives = Constants.MAX_LIVES;
+        this.score = 0;
+        this.stage = 0;
+        this.restartFrom(0);
+    }
+
+    /**
+     * Advances the world by a single tick.
+     *
+     * @param input the input of the player for this tick
+     */
+    public void step(final InputFrame input) {
+        this.tick++;
+        this.explodingBullets.advance(this::releaseBullet);
+        switch (this.state) {
+            case RUNNING -> {
+                this.runningTicks++;
+                this.applyInput(input);
+                this.move();
+                this.spawn();
+                this.checkCollisions();
+                this.updateScore();
+            }
+            case DESTROYED -> {
+                this.restartCountdown--;
+                if (this.restartCountdown <= 0) {
+                    this.respawn();
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Captures what the view needs to draw the world, so that it can draw it
+     * without touching the world, even from another thread.
+     *
+     * @param snapshot the snapshot to fill, whatever it held is overwritten
+     */
+    public void capture(final RenderSnapshot snapshot) {
+        snapshot.clear();
+        snapshot.setTick(this.tick);
+        snapshot.setState(this.state);
+        snapshot.setTerrain(this.landscape.getSnapshot());
+        snapshot.setHud(this.score, this.lives, this.stage, this.fuelBar.getFuelLevel());
+        // Only a running world moves, and a restart jumps instead of moving
+        final boolean moving = this.state == WorldState.RUNNING;
+        final int cameraX = this.getCameraX();
+        snapshot.setMotion(moving && Math.abs(cameraX - this.previousCameraX) <= Constants.LANDSCAPEX_SPEED
+                ? this.previousCameraX : cameraX, (int) (this.runningTicks % SCROLL_PERIOD), SCROLL_PERIOD);
+        // The sprites that were picked at random at every frame follow the tick
+        final int frame = (int) this.tick;
+        final DrawList ship = snapshot.getLayer(RenderLayer.SPACESHIP);
+        ship.add(this.spaceShip.isHit() ? Asset.SHIP_EXPLOSION : Asset.SHIP,
+                frame, this.spaceShip.x(), this.spaceShip.y(), this.spaceShip.width(), this.spaceShip.height());
+        if (moving) {
+            ship.movedFrom(this.spaceShip.previousX(), this.spaceShip.previousY());
+        }
+        final DrawList flying = snapshot.getLayer(RenderLayer.BULLETS);
+        for (final Bullet bullet : this.bullets) {
+            flying.add(bullet.getType() == BulletType.TYPE_BOMB ? Asset.BOMB : Asset.BULLET, bullet.getFrame(),
+                    bullet.x(), bullet.y(), bullet.width(), bullet.height());
+            if (moving) {
+                flying.movedFrom(bullet.previousX(), bullet.previousY());
+            }
+        }
+        final DrawList explosions = snapshot.getLayer(RenderLayer.EXPLOSIONS);
+        this.explodingBullets.stream().forEach(bullet -> explosions.add(Asset.BOMB_EXPLOSION, frame,
+                bullet.x(), bullet.y(), bullet.width(), bullet.height()));
+        final DrawList rocketLayer = snapshot.getLayer(RenderLayer.ROCKETS);
+        for (int i = 0; i < this.rockets.size(); i++) {
+            rocketLayer.add(this.rockets.hasFlag(i, EntityStore.HIT) ? Asset.ROCKET_EXPLOSION : Asset.ROCKET,
+                    this.rockets.frame(i), this.rockets.x(i), this.rockets.y(i), this.rockets.width(i),
+                    this.rockets.height(i));
+            if (moving) {
+                rocketLayer.movedFrom(this.rockets.x(i), this.rockets.previousY(i));
+            }
+        }
+        if (Objects.nonNull(this.boss)) {
+            rocketLayer.add(this.boss.isHit() ? Asset.BOSS_EXPLOSION : Asset.BOSS, frame, this.boss.x(),
+                    this.boss.y(), this.boss.width(), this.boss.height());
+            if (moving) {
+                rocketLayer.movedFrom(this.boss.previousX(), this.boss.previousY());
+            }
+        }
+        final DrawList tankLayer = snapshot.getLayer(RenderLayer.FUEL_TANKS);
+        for (int i = 0; i < this.tanks.size(); i++) {
+            tankLayer.add(this.tanks.hasFlag(i, EntityStore.HIT) ? Asset.FUEL_TANK_EXPLOSION : Asset.FUEL_TANK,
+                    this.tanks.frame(i), this.tanks.x(i), this.tanks.y(i), this.tanks.width(i),
+                    this.tanks.height(i));
+        }
+    }
+
+    /**
+     * Computes a checksum of the state of the game: two worlds that went
+     * through the same states have the same checksum. What is only drawn, like
+     * the animation frames, is left out.
+     *
+     * @return the checksum
+     */
+    public long checksum() {
+        long hash = this.state.ordinal();
+        hash = CHECKSUM_PRIME * hash + this.runningTicks;
+        hash = CHECKSUM_PRIME * hash + this.lives;
+        hash = CHECKSUM_PRIME * hash + this.score;
+        hash = CHECKSUM_PRIME * hash + this.stage;
+        hash = CHECKSUM_PRIME * hash + this.fuelBar.getFuelLevel();
+        hash = CHECKSUM_PRIME * hash + this.getCameraX();
+        hash = CHECKSUM_PRIME * hash + this.spaceShip.x();
+        hash = CHECKSUM_PRIME * hash + this.spaceShip.y();
+        for (final Bullet bullet : this.bullets) {
+            hash = CHECKSUM_PRIME * hash + bullet.x();
+            hash = CHECKSUM_PRIME * hash + bullet.y();
+        }
+        for (final EntityStore store : List.of(this.rockets, this.tanks)) {
+            for (int i = 0; i < store.size(); i++) {
+                hash = CHECKSUM_PRIME * hash + store.x(i);
+                hash = CHECKSUM_PRIME * hash + store.y(i);
+                hash = CHECKSUM_PRIME * hash + store.state(i);
+                hash = CHECKSUM_PRIME * hash + store.counter(i);
+                hash = CHECKSUM_PRIME * hash + (store.hasFlag(i, EntityStore.HIT) ? 1 : 0);
+            }
+        }
+        if (Objects.nonNull(this.boss)) {
+            hash = CHECKSUM_PRIME * hash + this.boss.x();
+            hash = CHECKSUM_PRIME * hash + this.boss.y();
+        }
+        return hash;
+    }
+
+    /**
+     * Getter for the seed of everything random in the world.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.random.getSeed();
+    }
+
+    /**
+     * Getter for the state of the world.
+     *
+     * @return the state
+     */
+    public WorldState getState() {
+        return this.state;
+    }
+
+    /**
+     * Getter for the number of ticks stepped since the world was created.
+     *
+     * @return the number of ticks
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Getter for the landscape.
+     *
+     * @return the landscape
+     */
+    @SuppressFBWarnings
+    public Landscape getLandscape() {
+        return this.landscape;
+    }
+
+    /**
+     * Getter for the spaceship.
+     *
+     * @return the spaceship
+     */
+    @SuppressFBWarnings
+    public SpaceShip getSpaceShip() {
+        return this.spaceShip;
+    }
+
+    /**
+     * Getter for the fuel bar.
+     *
+     * @return the fuel bar
+     */
+    @SuppressFBWarnings
+    public FuelBar getFuelBar() {
+        return this.fuelBar;
+    }
+
+    /**
+     * Getter for the camera, that is the x coordinate of the map at the left
+     * border of the screen. It must be subtracted from the x coordinate of the
+     * rockets, the tanks, the boss and the exploding bullets to draw them.
+     *
+     * @return the x coordinate of the camera
+     */
+    public int getCameraX() {
+        return this.landscape.getSnapshot().getScrollX();
+    }
+
+    /**
+     * Getter for the bullets.
+     *
+     * @return a copy of the set of flying bullets
+     */
+    public Set<Bullet> getBullets() {
+        return new LinkedHashSet<>(this.bullets);
+    }
+
+    /**
+     * Getter for the exploding bullets, in the coordinates of the map.
+     *
+     * @return a copy of the list of exploding bullets
+     */
+    public List<Bullet> getExplodingBullets() {
+        return this.explodingBullets.getList();
+    }
+
+    /**
+     * Getter for the rockets on the screen, in the coordinates of the map. The
+     * state of a rocket is the ordinal of its {@link RocketState}.
+     *
+     * @return the store of the rockets, to be read only
+     */
+    @SuppressFBWarnings
+    public EntityStore getRockets() {
+        return this.rockets;
+    }
+
+    /**
+     * Getter for boss, in the coordinates of the map.
+     *
+     * @return the boss, or {@code null} if it has not spawned yet
+     */
+    @SuppressFBWarnings
+    public Boss getBoss() {
+        return this.boss;
+    }
+
+    /**
+     * Getter for the fuel tanks on the screen, in the coordinates of the map.
+     *
+     * @return the store of the fuel tanks, to be read only
+     */
+    @SuppressFBWarnings
+    public EntityStore getFuelTanks() {
+        return this.tanks;
+    }
+
+    /**
+     * Getter for the pool of the bullets of a type, to read its counters.
+     *
+     * @param type the type of the bullets
+     * @return the pool
+     */
+    public ObjectPool<Bullet> getBulletPool(final BulletType type) {
+        return this.bulletPools.get(type);
+    }
+
+    /**
+     * Getter for lives.
+     *
+     * @return number of lives remaining
+     */
+    public int getLives() {
+        return this.lives;
+    }
+
+    /**
+     * Getter for the score of the current game.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Getter for the stage reached, 0 before the first stage.
+     *
+     * @return the stage
+     */
+    public int getStage() {
+        return this.stage;
+    }
+
+    /**
+     * Calculates nearest checkpoint.
+     *
+     * @return the checkpoint
+     */
+    public int getCheckPoint() {
+        final List<Integer> stageStartingX = this.landscape.getMapController().getStageStartingX();
+        for (int i = stageStartingX.size() - 1; i > 1; i--) {
+            if (stageStartingX.get(i) < this.landscape.getCurrentMapX()) {
+                return stageStartingX.get(i);
+            }
+        }
+        return stageStartingX.get(1);
+    }
+
+    /**
+     * Resets the world to the given position of the map, keeping lives and
+     * score.
+     *
+     * @param restartPos X pos of the map to restart from
+     */
+    public void restartFrom(final int restartPos) {
+        this.landscape.reset(restartPos);
+        this.mapX = this.landscape.getCurrentMapX();
+        this.spaceShip.setHit(false);
+        this.spaceShip.moveTo(Constants.SPACESHIP_STARTER_POSITION, Constants.SPACESHIP_STARTER_POSITION);
+        this.spaceShip.resetSpeedX();
+        this.spaceShip.resetSpeedY();
+        this.spaceShip.savePosition();
+        this.previousCameraX = this.getCameraX();
+        this.fuelBar.fillFuel();
+        this.bullets.forEach(this::releaseBullet);
+        this.bullets.clear();
+        this.resetRockets();
+        this.resetTanks();
+        this.runningTicks = 0;
+        this.state = WorldState.RUNNING;
+    }
+
+    private boolean isDue(final int period) {
+        return this.runningTicks % period == 0;
+    }
+
+    private void applyInput(final InputFrame input) {
+        this.spaceShip.setAbove(input.isPressed(InputButton.UP));
+        this.spaceShip.setDown(input.isPressed(InputButton.DOWN));
+        this.spaceShip.setLeft(input.isPressed(InputButton.LEFT));
+        this.spaceShip.setRight(input.isPressed(InputButton.RIGHT));
+        if (input.isPressed(InputButton.SHOOT)) {
+            this.shootBullet(BulletType.TYPE_HORIZONTAL);
+        }
+        if (input.isPressed(InputButton.BOMB)) {
+            this.shootBullet(BulletType.TYPE_BOMB);
+        }
+    }
+
+    private void move() {
+        this.scrolling = this.isDue(SCROLL_PERIOD);
+        this.savePositions();
+        this.scheduler.run(this.movePlan);
+        if (this.scrolling) {
+            this.explodeBoss();
+            this.rockets.removeIf(this::isRocketOver);
+            this.tanks.removeIf(this::isTankOver);
+        }
+    }
+
+    /* Remembers where everything was before it moves, for the view. */
+    private void savePositions() {
+        this.spaceShip.savePosition();
+        if (this.scrolling) {
+            this.previousCameraX = this.getCameraX();
+            this.bullets.forEach(Bullet::savePosition);
+            this.rockets.savePositions();
+            if (Objects.nonNull(this.boss)) {
+                this.boss.savePosition();
+            }
+        }
+    }
+
+    private void spawn() {
+        this.launches.advance();
+        if (this.isDue(SPAWN_PERIOD)) {
+            this.loadRockets();
+            this.loadTanks();
+        }
+    }
+
+    private void updateScore() {
+        if (this.state != WorldState.RUNNING) {
+            return;
+        }
+        if (this.isDue(FUEL_PERIOD)) {
+            this.changeStage();
+            this.fuelBar.decreaseFuel(Constants.FUEL_DECREASE_AMOUNT);
+        }
+        if (this.isDue(FUEL_CHECK_PERIOD) && this.fuelBar.checkFuelZero()) {
+            this.destroySpaceShip();
+        } else if (this.isBossOutOfScreen()) {
+            this.state = WorldState.COMPLETED;
+        }
+    }
+
+    private void destroySpaceShip() {
+        if (this.state == WorldState.RUNNING) {
+            this.spaceShip.setHit(true);
+            this.restartCountdown = RESTART_DELAY;
+            this.state = WorldState.DESTROYED;
+        }
+    }
+
+    private void respawn() {
+        if (this.lives == 0) {
+            this.spaceShip.setHit(false);
+            this.state = WorldState.GAME_OVER;
+        } else {
+            this.lives--;
+            this.restartFrom(this.getCheckPoint());
+        }
+    }
+
+    private void changeStage() {
+        final int pos = this.landscape.getCurrentMapX();
+        final List<Integer> checkPoints = this.landscape.getMapController().getStageStartingX();
+        for (int i = Constants.MAX_STAGES; i > 0; i--) {
+            if (pos > checkPoints.get(i)) {
+                this.stage = i;
+                return;
+            }
+        }
+    }
+
+    private boolean isBossOutOfScreen() {
+        return Objects.nonNull(this.boss) && this.boss.x() < this.mapX;
+    }
+
+    /* Moves the spaceship, keeping it in the left half of the screen. */
+    private void moveSpaceShip() {
+        final int shipX = spaceShip.x();
+        final int shipY = spaceShip.y();
+        final int xSpeed = spaceShip.getxSpeed();
+        final int ySpeed = spaceShip.getySpeed();
+
+        final int minX = 0;
+        final int maxX = Constants.WINDOW_WIDTH / 2;
+        final int minY = 0;
+        final int maxY = Constants.WINDOW_HEIGHT;
+
+        // Conditions for horizontal movement (on X axis)
+        if (shipX + xSpeed >= minX && shipX + xSpeed <= maxX) {
+            spaceShip.move();
+        } else if (shipX + xSpeed < minX) {
+            spaceShip.resetSpeedX();
+            spaceShip.moveTo(minX, shipY);
+        } else if (shipX + xSpeed > maxX) {
+            spaceShip.resetSpeedX();
+            spaceShip.moveTo(maxX, shipY);
+        }
+
+        if (shipY + ySpeed >= minY && shipY + ySpeed <= maxY) {
+            spaceShip.move();
+        } else if (shipY + ySpeed < minY) {
+            spaceShip.resetSpeedY();
+            spaceShip.moveTo(shipX, minY);
+        } else if (shipY + ySpeed > maxY) {
+            spaceShip.resetSpeedY();
+            spaceShip.moveTo(shipX, maxY);
+        }
+    }
+
+    /*
+     * Shoots a bullet from the right edge of the spaceship, centered vertically.
+     * No more than MAX_BOMB bombs can be falling at the same time.
+     */
+    private void shootBullet(final BulletType type) {
+        if (type == BulletType.TYPE_BOMB) {
+            final long activeBombCount = bullets.stream()
+                    .filter(b -> b.getType() == BulletType.TYPE_BOMB)
+                    .count();
+
+            if (activeBombCount >= MAX_BOMB) {
+                return;
+            }
+        }
+
+        final int bulletX = spaceShip.x() + spaceShip.getWidth();
+        final int bulletY = spaceShip.y() + spaceShip.getHeight() / 2;
+        final Bullet bullet = this.bulletPools.get(type).acquire();
+        bullet.reset(bulletX, bulletY);
+        bullets.add(bullet);
+    }
+
+    private void releaseBullet(final Bullet bullet) {
+        this.bulletPools.get(bullet.getType()).release(bullet);
+    }
+
+    private void scrollLandscape() {
+        if (this.scrolling) {
+            this.landscape.update();
+            this.mapX = this.landscape.getCurrentMapX();
+        }
+    }
+
+    private void moveBullets() {
+        for (final Bullet bullet : this.bullets) {
+            if (bullet.getType() == BulletType.TYPE_BOMB) {
+                bullet.advanceFrame();
+            }
+        }
+        if (!this.scrolling) {
+            return;
+        }
+        for (int i = 0; i < BULLET_MOVES_PER_SCROLL; i++) {
+            bullets.forEach(Bullet::moveByType);
+        }
+        // removes bullets that have gone off the screen
+        final Iterator<Bullet> iterator = bullets.iterator();
+        while (iterator.hasNext()) {
+            final Bullet b = iterator.next();
+            if (b.x() > Constants.WINDOW_WIDTH) {
+                iterator.remove();
+                this.releaseBullet(b);
+            }
+        }
+    }
+
+    private void updateRockets() {
+        if (this.scrolling) {
+            this.scheduler.forRange(this.rockets.size(), this::updateRocket);
+        }
+        this.rockets.advanceFrames();
+    }
+
+    private void updateRocket(final int i) {
+        final boolean hit = this.rockets.hasFlag(i, EntityStore.HIT);
+        // A hit rocket stops climbing
+        if (this.rockets.state(i) == MOVING && !hit) {
+            this.rockets.setY(i, (int) (this.rockets.y(i) - Constants.ROCKET_SPEED));
+        }
+        if (this.rockets.y(i) <= 0) {
+            this.rockets.setState(i, EXPLODED);
+            this.rockets.setCounter(i, Constants.ROCKET_EXPLOSION_DURATION);
+        }
+        if (hit) {
+            this.rockets.setState(i, EXPLODED);
+        }
+    }
+
+    private void moveBoss() {
+        if (this.scrolling && Objects.nonNull(boss)) {
+            // The boss flies slower than the camera, so it moves back on screen
+            boss.moveBy(Constants.LANDSCAPEX_SPEED - BOSS_SCREEN_SPEED, 0);
+        }
+    }
+
+    private void explodeBoss() {
+        if (Objects.nonNull(boss) && boss.isHit() && !boss.isExploded()) {
+            boss.setExploded(true);
+            this.score += Constants.BOSS_POINTS;
+        }
+    }
+
+    /* Counts the explosion of a rocket down, scoring it when it is over. */
+    private boolean isRocketOver(final int i) {
+        if (this.rockets.state(i) == EXPLODED
+                && this.rockets.incrementCounter(i) == Constants.ROCKET_EXPLOSION_DURATION) {
+            if (this.rockets.hasFlag(i, EntityStore.HIT) && !this.rockets.hasFlag(i, EntityStore.CRASHED)) {
+                this.score += Constants.ROCKET_POINTS;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void updateTanks() {
+        if (this.scrolling) {
+            this.scheduler.forRange(this.tanks.size(), i -> {
+                if (this.tanks.hasFlag(i, EntityStore.HIT)) {
+                    this.tanks.setFlag(i, EntityStore.EXPLODED);
+                }
+            });
+        }
+        this.tanks.advanceFrames();
+    }
+
+    /* Counts the explosion of a tank down, refilling the fuel when it is over. */
+    private boolean isTankOver(final int i) {
+        if (this.tanks.hasFlag(i, EntityStore.EXPLODED)
+                && this.tanks.incrementCounter(i) == Constants.ROCKET_EXPLOSION_DURATION) {
+            fuelBar.increaseFuel(Constants.FUEL_REFILL);
+            return true;
+        }
+        return false;
+    }
+
+    private void loadRockets() {
+        this.rocketSpawns.spawnUntil(mapX + Constants.WINDOW_WIDTH, handle -> {
+            this.rockets.setState(this.rockets.indexOf(handle), PREMOVE);
+            final int delay = MIN_LAUNCH_DELAY + this.launchDelays.nextInt(Constants.MAXDELAY);
+            this.launches.schedule(toTicks(delay), () -> this.launchRocket(handle));
+        });
+        if (mapX >= Constants.BOSS_SPAWN_POINT && Objects.isNull(this.boss)) {
+            this.boss = new Boss(mapX + Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT / 2, BOSS_DIM, BOSS_DIM);
+        }
+    }
+
+    /* Launches a rocket, if it is still there and waiting to. */
+    private void launchRocket(final int handle) {
+        final int i = this.rockets.indexOf(handle);
+        if (i >= 0 && this.rockets.state(i) == PREMOVE) {
+            this.rockets.setState(i, MOVING);
+        }
+    }
+
+    private void loadTanks() {
+        this.tankSpawns.spawnUntil(mapX + Constants.WINDOW_WIDTH);
+    }
+
+    /* Resets all rockets and seeks the rockets past the right border. */
+    private void resetRockets() {
+        this.rockets.clear();
+        this.launches.clear();
+        this.boss = null;
+        this.rocketSpawns.seek(this.mapX + Constants.WINDOW_WIDTH);
+        this.loadRockets();
+    }
+
+    /* Resets all tanks and seeks the tanks beyond the right border. */
+    private void resetTanks() {
+        this.tanks.clear();
+        this.tankSpawns.seek(this.mapX + Constants.WINDOW_WIDTH + 1);
+    }
+
+    private List<Pair<Integer, Integer>> getRocketPositions() {
+        final List<Pair<Integer, Integer>> positions = new ArrayList<>();
+        int counter = 0;
+        for (final Pair<Integer, Integer> pos : this.getSpawnPositions()) {
+            if (counter % ROCKET_OFFSET == 0 && pos.getFirstElement() < Constants.END_OF_ROCKET_SPAWN) {
+                positions.add(pos);
+            }
+            counter++;
+        }
+        return positions;
+    }
+
+    private List<Pair<Integer, Integer>> getTankPositions() {
+        final List<Pair<Integer, Integer>> positions = new ArrayList<>();
+        int counter = 0;
+        for (final Pair<Integer, Integer> pos : this.getSpawnPositions()) {
+            if (counter % TANK_SPAWN == 0 && counter % TANK_AVOID != 0
+                    && pos.getFirstElement() < Constants.END_OF_SPAWNING) {
+                positions.add(pos);
+            }
+            counter++;
+        }
+        return positions;
+    }
+
+    private List<Pair<Integer, Integer>> getSpawnPositions() {
+        final List<Pair<Integer, Integer>> spawnPosition = new ArrayList<>();
+        spawnPosition.addAll(this.landscape.getMapController().getBrickFloorPosition());
+        spawnPosition.addAll(this.landscape.getMapController().getFlatFloorPositions());
+        return spawnPosition;
+    }
+
+    private void checkCollisions() {
+        final TerrainSnapshot snapshot = this.landscape.getSnapshot();
+        this.terrain = snapshot.getTerrain();
+        this.scrollX = snapshot.getScrollX();
+        this.fillTargets();
+        this.scheduler.run(this.collisionPlan);
+        if (this.spaceShipCrashed) {
+            this.destroySpaceShip();
+        }
+        for (int i = 0; i < this.checkedBullets.size(); i++) {
+            this.applyBulletHit(this.checkedBullets.get(i), this.bulletTargets[i], this.targetIndexes[i]);
+        }
+        this.checkedBullets.clear();
+        if (this.crashedRocket >= 0) {
+            this.rockets.setFlag(this.crashedRocket, EntityStore.HIT | EntityStore.CRASHED);
+        }
+    }
+
+    private void checkSpaceShipCollisions() {
+        this.spaceShipCrashed = spaceShip.checkGroundCollision(this.terrain, this.scrollX)
+                || this.rockets.firstIntersecting(spaceShip.x() + this.scrollX, spaceShip.y(),
+                        spaceShip.width(), spaceShip.height()) >= 0;
+    }
+
+    /* Finds what every bullet hits, the hits are applied after all the checks. */
+    private void checkBulletCollisions() {
+        this.checkedBullets.addAll(this.bullets);
+        final int count = this.checkedBullets.size();
+        if (count > this.bulletTargets.length) {
+            this.bulletTargets = Arrays.copyOf(this.bulletTargets, count * 2);
+            this.targetIndexes = Arrays.copyOf(this.targetIndexes, count * 2);
+        }
+        this.scheduler.forRange(count, this::findBulletTarget);
+    }
+
+    /*
+     * Inserts the rockets, the boss and the tanks in the grid, in this order:
+     * a bullet that hits more than one of them only hits the first one.
+     */
+    private void fillTargets() {
+        this.targets.clear(this.scrollX, 0);
+        for (int i = 0; i < this.rockets.size(); i++) {
+            this.targets.insert(this.rockets.x(i), this.rockets.y(i), this.rockets.width(i), this.rockets.height(i));
+        }
+        this.bossTarget = this.targets.size();
+        if (Objects.nonNull(this.boss)) {
+            this.targets.insert(this.boss.x(), this.boss.y(), this.boss.width(), this.boss.height());
+        }
+        this.firstTankTarget = this.targets.size();
+        for (int i = 0; i < this.tanks.size(); i++) {
+            this.targets.insert(this.tanks.x(i), this.tanks.y(i), this.tanks.width(i), this.tanks.height(i));
+        }
+    }
+
+    private void findBulletTarget(final int i) {
+        final Bullet bullet = this.checkedBullets.get(i);
+        this.targetIndexes[i] = -1;
+        if (bullet.checkGroundCollision(this.terrain, this.scrollX)) {
+            this.bulletTargets[i] = Target.TERRAIN;
+            return;
+        }
+        final int target = this.targets.firstCollision(bullet.x() + this.scrollX, bullet.y(), bullet.width(),
+                bullet.height());
+        if (target < 0) {
+            this.bulletTargets[i] = Target.NONE;
+        } else if (target < this.bossTarget) {
+            this.bulletTargets[i] = Target.ROCKET;
+            this.targetIndexes[i] = target;
+        } else if (target < this.firstTankTarget) {
+            this.bulletTargets[i] = Target.BOSS;
+        } else {
+            this.bulletTargets[i] = Target.TANK;
+            this.targetIndexes[i] = target - this.firstTankTarget;
+        }
+    }
+
+    private void applyBulletHit(final Bullet bullet, final Target target, final int index) {
+        switch (target) {
+            case NONE -> {
+                return;
+            }
+            case ROCKET -> this.rockets.setFlag(index, EntityStore.HIT);
+            case BOSS -> this.boss.setHit(true);
+            case TANK -> this.tanks.setFlag(index, EntityStore.HIT);
+            default -> {
+            }
+        }
+        this.bullets.remove(bullet);
+        if (bullet.getType() == BulletType.TYPE_BOMB) {
+            // The explosion stays where the bomb fell, so it moves to the
+            // map, and the bomb goes back to its pool when it is over
+            bullet.moveBy(this.scrollX, 0);
+            explodingBullets.addElement(bullet, BULLET_EXPLOSION_DURATION);
+        } else {
+            this.releaseBullet(bullet);
+        }
+    }
+
+    private void checkEnemyCeilingCollision() {
+        this.crashedRocket = this.scheduler.findFirst(this.rockets.size(),
+                i -> this.terrain.hitsCeiling(this.rockets.x(i), this.rockets.y(i),
+                        this.rockets.width(i), this.rockets.height(i)));
+    }
+}
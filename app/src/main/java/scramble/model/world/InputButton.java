@@ -0,0 +1,29 @@
+package scramble.model.world;
+
+/**
+ * The buttons the player can press. Every button owns a bit of the mask of an
+ * {@link InputFrame}.
+ */
+public enum InputButton {
+    /** Moves the spaceship up. */
+    UP,
+    /** Moves the spaceship down. */
+    DOWN,
+    /** Moves the spaceship left. */
+    LEFT,
+    /** Moves the spaceship right. */
+    RIGHT,
+    /** Shoots a horizontal bullet. */
+    SHOOT,
+    /** Drops a bomb. */
+    BOMB;
+
+    /**
+     * Getter for the bit of the button.
+     *
+     * @return the bit of the button inside an input mask
+     */
+    public int mask() {
+        return 1 << this.ordinal();
+    }
+}
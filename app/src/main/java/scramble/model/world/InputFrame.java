@@ -0,0 +1,74 @@
+package scramble.model.world;
+
+/**
+ * Immutable snapshot of the player input for a single tick of the
+ * {@link GameWorld}.
+ *
+ * <p>
+ * Direction buttons are held for as long as the key is down, while
+ * {@link InputButton#SHOOT} and {@link InputButton#BOMB} are only set in the
+ * tick following the key press.
+ * </p>
+ */
+public final class InputFrame {
+
+    /** A frame with no button pressed. */
+    public static final InputFrame EMPTY = new InputFrame(0);
+
+    private final int mask;
+
+    /**
+     * Class constructor.
+     *
+     * @param mask the bit mask of the pressed buttons, see
+     *             {@link InputButton#mask()}
+     */
+    public InputFrame(final int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Creates a frame with the given buttons pressed.
+     *
+     * @param buttons the pressed buttons
+     * @return the frame
+     */
+    public static InputFrame of(final InputButton... buttons) {
+        int mask = 0;
+        for (final InputButton button : buttons) {
+            mask |= button.mask();
+        }
+        return new InputFrame(mask);
+    }
+
+    /**
+     * Checks if a button is pressed in this frame.
+     *
+     * @param button the button
+     * @return true if the button is pressed
+     */
+    public boolean isPressed(final InputButton button) {
+        return (this.mask & button.mask()) != 0;
+    }
+
+    /**
+     * Getter for the bit mask of the pressed buttons.
+     *
+     * @return the mask
+     */
+    public int getMask() {
+        return this.mask;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof InputFrame && ((InputFrame) obj).mask == this.mask;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.mask);
+    }
+}
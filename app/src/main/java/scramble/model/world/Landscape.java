@@ -0,0 +1,150 @@
+package scramble.model.world;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import scramble.controller.map.MapController;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.api.TerrainIndex;
+import scramble.model.map.util.LandUtils;
+import scramble.utility.Constants;
+
+/**
+ * The scrolling landscape of the {@link GameWorld}. It keeps the columns
+ * loaded from the {@link MapController} in a {@link ColumnWindow} that
+ * follows the scroll one column at a time, and publishes them as a
+ * {@link TerrainSnapshot} after every scroll step.
+ */
+public class Landscape {
+
+    /** Numebr of columns on screen. */
+    public static final int COLUMNS_ON_SCREEN = LandUtils.dividePixelPerSprite(Constants.WINDOW_WIDTH);
+    /** Number of columns that aren't seen on screen but are still loaded. */
+    public static final int EXTRA_COLUMNS_LOADED = 20;
+    /** Number of total columns loaded. */
+    public static final int TOTAL_COLUMNS_LOADED = COLUMNS_ON_SCREEN + EXTRA_COLUMNS_LOADED;
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final MapController mapController;
+    private final ColumnWindow columns;
+    private long version;
+    private List<MapColumn> publishedColumns;
+    private volatile TerrainSnapshot snapshot;
+
+    private int landscapeX;
+
+    /**
+     * Class constructor.
+     *
+     * @param mapController the controller of the map to scroll
+     */
+    public Landscape(final MapController mapController) {
+        this.mapController = mapController;
+        this.columns = new ColumnWindow(mapController::getColumn, TOTAL_COLUMNS_LOADED);
+        this.reset(0);
+    }
+
+    /**
+     * Resets starting position of the map.
+     *
+     * @param starterPosition self explanatory
+     */
+    public final void reset(final int starterPosition) {
+        this.mapController.resetToX(starterPosition);
+        this.landscapeX = starterPosition;
+        this.moveColumns();
+        this.publish();
+    }
+
+    /** Scrolls the landscape by {@link Constants#LANDSCAPEX_SPEED}. */
+    public void update() {
+        this.landscapeX += Constants.LANDSCAPEX_SPEED;
+        if (this.landscapeX / LandUtils.PIXEL_PER_LAND_SPRITE_SIDE
+                + TOTAL_COLUMNS_LOADED == this.mapController.getMapSize()) {
+            this.landscapeX = 0;
+        }
+        this.moveColumns();
+        this.publish();
+    }
+
+    /**
+     * Getter for the MapController of the landscape.
+     *
+     * @return the MapController
+     */
+    public MapController getMapController() {
+        return this.mapController;
+    }
+
+    /**
+     * Getter for the terrain published after the last scroll step. It can be
+     * read from any thread.
+     *
+     * @return the last terrain snapshot
+     */
+    public TerrainSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Getter for the loaded columns.
+     *
+     * @return the window of the loaded columns, that changes as the landscape
+     *         scrolls
+     */
+    public List<MapColumn> getLoadedColumns() {
+        return this.columns;
+    }
+
+    /**
+     * Returns the loaded column at a x coordinate of the map.
+     *
+     * @param mapX the x coordinate in the map
+     * @return the column, or null if it is not loaded
+     */
+    public MapColumn getColumnAtX(final int mapX) {
+        return this.columns.getAtX(mapX);
+    }
+
+    /**
+     * Getter for the collision index of the terrain. Its coordinates are map
+     * coordinates, see {@link #getLandscapeX()} to convert from the screen.
+     *
+     * @return the terrain index
+     */
+    public TerrainIndex getTerrain() {
+        return this.mapController.getTerrainIndex();
+    }
+
+    /**
+     * Getter for MapX.
+     *
+     * @return the x coordinate of the map at the left border of the screen
+     */
+    public int getCurrentMapX() {
+        return this.landscapeX;
+    }
+
+    /**
+     * Getter for the scroll of the landscape, that is the x coordinate of the map
+     * at the left border of the screen.
+     *
+     * @return the scroll of the landscape
+     */
+    public int getLandscapeX() {
+        return this.landscapeX;
+    }
+
+    private void moveColumns() {
+        if (this.columns.moveTo(LandUtils.dividePixelPerSprite(this.landscapeX))) {
+            this.version = VERSIONS.incrementAndGet();
+            // The window changes in place, the snapshot reads the ring as it is now
+            this.publishedColumns = this.columns.view();
+        }
+    }
+
+    private void publish() {
+        this.snapshot = new TerrainSnapshot(this.publishedColumns, this.getTerrain(), this.landscapeX, this.version);
+    }
+}
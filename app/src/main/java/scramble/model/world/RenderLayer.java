@@ -0,0 +1,46 @@
+package scramble.model.world;
+
+/**
+ * The layers of a {@link RenderSnapshot}, each one with its own
+ * {@link DrawList}.
+ */
+public enum RenderLayer {
+    /** The spaceship, on the screen, moved at every tick. */
+    SPACESHIP(false, false),
+    /** The flying bullets, on the screen. */
+    BULLETS(false, true),
+    /** The explosions of the bombs, on the map. */
+    EXPLOSIONS(true, true),
+    /** The rockets and the boss, on the map. */
+    ROCKETS(true, true),
+    /** The fuel tanks, on the map. */
+    FUEL_TANKS(true, true);
+
+    private final boolean onMap;
+    private final boolean scrolled;
+
+    RenderLayer(final boolean onMap, final boolean scrolled) {
+        this.onMap = onMap;
+        this.scrolled = scrolled;
+    }
+
+    /**
+     * Tells if the commands of the layer are in the coordinates of the map,
+     * so that the camera must be subtracted from them, or of the screen.
+     *
+     * @return true if the layer is on the map
+     */
+    public boolean isOnMap() {
+        return this.onMap;
+    }
+
+    /**
+     * Tells if the commands of the layer move when the landscape scrolls,
+     * once every few ticks, or at every tick.
+     *
+     * @return true if the layer moves with the scrolling
+     */
+    public boolean isScrolled() {
+        return this.scrolled;
+    }
+}
@@ -0,0 +1,196 @@
+package scramble.model.world;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * What the view needs to draw a tick of the {@link GameWorld}: the terrain,
+ * the camera, the numbers of the HUD and a {@link DrawList} per
+ * {@link RenderLayer}. It is filled by {@link GameWorld#capture} and can only
+ * be read outside of the world, so the view never touches the model and can
+ * draw from another thread.
+ *
+ * <p>
+ * A snapshot is meant to be reused through a
+ * {@link scramble.model.common.api.TripleBuffer}: every capture overwrites
+ * the whole of it.
+ * </p>
+ *
+ * <p>
+ * The simulation runs at a fixed tick and the view can draw faster or slower
+ * than it: a snapshot keeps where everything was at the previous update too,
+ * and the view draws it between the two with the alpha of
+ * {@link #getAlpha(RenderLayer, double)}, one update behind the simulation.
+ * </p>
+ */
+public final class RenderSnapshot {
+
+    private final Map<RenderLayer, DrawList> layers = new EnumMap<>(RenderLayer.class);
+    private long tick;
+    private WorldState state = WorldState.RUNNING;
+    private TerrainSnapshot terrain;
+    private int cameraX;
+    private int previousCameraX;
+    private int scrollPhase;
+    private int scrollPeriod = 1;
+    private int score;
+    private int lives;
+    private int stage;
+    private int fuelLevel;
+
+    /** Class constructor, the snapshot is empty until it is captured. */
+    public RenderSnapshot() {
+        for (final RenderLayer layer : RenderLayer.values()) {
+            this.layers.put(layer, new DrawList());
+        }
+    }
+
+    /**
+     * Getter for the tick of the world the snapshot was captured at.
+     *
+     * @return the tick
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Getter for the state of the world.
+     *
+     * @return the state
+     */
+    public WorldState getState() {
+        return this.state;
+    }
+
+    /**
+     * Getter for the terrain.
+     *
+     * @return the terrain, or null if the snapshot was never captured
+     */
+    public TerrainSnapshot getTerrain() {
+        return this.terrain;
+    }
+
+    /**
+     * Getter for the camera, see {@link GameWorld#getCameraX()}.
+     *
+     * @return the x coordinate of the camera
+     */
+    public int getCameraX() {
+        return this.cameraX;
+    }
+
+    /**
+     * Getter for the camera between the previous scrolling of the landscape
+     * and the last one.
+     *
+     * @param alpha how far from the previous scrolling, from 0 to 1
+     * @return the x coordinate of the camera, rounded
+     */
+    public int getCameraX(final double alpha) {
+        return DrawList.interpolate(this.previousCameraX, this.cameraX, alpha);
+    }
+
+    /**
+     * Converts how far the view is from the last tick to how far a layer is
+     * from its previous update. The spaceship moves at every tick, the rest
+     * moves when the landscape scrolls, once every few ticks: the alpha of
+     * those layers keeps growing from a tick to the next until they move
+     * again, so that they are drawn at an even speed.
+     *
+     * @param layer     the layer
+     * @param tickAlpha how far the view is from the last tick, from 0 to 1
+     * @return the alpha to draw the layer with, from 0 to 1
+     */
+    public double getAlpha(final RenderLayer layer, final double tickAlpha) {
+        return layer.isScrolled() ? this.getScrollAlpha(tickAlpha) : tickAlpha;
+    }
+
+    /**
+     * Converts how far the view is from the last tick to how far the landscape
+     * is from its previous scrolling, see {@link #getAlpha}.
+     *
+     * @param tickAlpha how far the view is from the last tick, from 0 to 1
+     * @return the alpha to draw the landscape and the camera with, from 0 to 1
+     */
+    public double getScrollAlpha(final double tickAlpha) {
+        return (this.scrollPhase + tickAlpha) / this.scrollPeriod;
+    }
+
+    /**
+     * Getter for the score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Getter for the lives left.
+     *
+     * @return the number of lives
+     */
+    public int getLives() {
+        return this.lives;
+    }
+
+    /**
+     * Getter for the stage reached.
+     *
+     * @return the stage
+     */
+    public int getStage() {
+        return this.stage;
+    }
+
+    /**
+     * Getter for the fuel left.
+     *
+     * @return the fuel level, from 0 to 100
+     */
+    public int getFuelLevel() {
+        return this.fuelLevel;
+    }
+
+    /**
+     * Getter for the draw commands of a layer.
+     *
+     * @param layer the layer
+     * @return the draw commands, to be read only
+     */
+    public DrawList getLayer(final RenderLayer layer) {
+        return this.layers.get(layer);
+    }
+
+    void clear() {
+        this.layers.values().forEach(DrawList::clear);
+    }
+
+    void setTick(final long tick) {
+        this.tick = tick;
+    }
+
+    void setState(final WorldState state) {
+        this.state = state;
+    }
+
+    void setTerrain(final TerrainSnapshot terrain) {
+        this.terrain = terrain;
+        this.cameraX = terrain.getScrollX();
+    }
+
+    void setMotion(final int previousCameraX, final int scrollPhase, final int scrollPeriod) {
+        this.previousCameraX = previousCameraX;
+        this.scrollPhase = scrollPhase;
+        this.scrollPeriod = scrollPeriod;
+    }
+
+    void setHud(final int score, final int lives, final int stage, final int fuelLevel) {
+        this.score = score;
+        this.lives = lives;
+        this.stage = stage;
+        this.fuelLevel = fuelLevel;
+    }
+}
@@ -0,0 +1,109 @@
+package scramble.model.world;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import scramble.model.common.api.Pair;
+
+/**
+ * The positions of the map where a kind of entity spawns, sorted by their x
+ * coordinate and built once per map. A cursor follows the spawn edge of the
+ * camera, so that every step only looks at the positions it has just reached
+ * and creates their entities then, instead of creating all of them up front.
+ *
+ * @param <T> the type of the entities spawned
+ */
+public final class SpawnTimeline<T> {
+
+    private final int[] xs;
+    private final int[] ys;
+    private final BiFunction<Integer, Integer, T> factory;
+    private int cursor;
+
+    /**
+     * Constructor for the class {@code SpawnTimeline}. The cursor starts at the
+     * beginning of the map.
+     *
+     * @param positions the positions of the map, in any order
+     * @param factory   the function that creates an entity given its x and y
+     *                  coordinates
+     */
+    public SpawnTimeline(final List<Pair<Integer, Integer>> positions,
+            final BiFunction<Integer, Integer, T> factory) {
+        final List<Pair<Integer, Integer>> sorted = new ArrayList<>(positions);
+        sorted.sort(Comparator.comparing(Pair::getFirstElement));
+        this.xs = new int[sorted.size()];
+        this.ys = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            this.xs[i] = sorted.get(i).getFirstElement();
+            this.ys[i] = sorted.get(i).getSecondElement();
+        }
+        this.factory = factory;
+    }
+
+    /**
+     * Moves the cursor to the first position whose x coordinate is not lower
+     * than the given one, so that the positions before it never spawn.
+     *
+     * @param mapX the x coordinate of the map to restart from
+     */
+    public void seek(final int mapX) {
+        int low = 0;
+        int high = this.xs.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.xs[mid] < mapX) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        this.cursor = low;
+    }
+
+    /**
+     * Creates the entities of the positions reached by the spawn edge and moves
+     * the cursor past them.
+     *
+     * @param edgeX  the x coordinate of the map reached by the spawn edge
+     * @param action the action to call for every entity created, in order of x
+     */
+    public void spawnUntil(final int edgeX, final Consumer<T> action) {
+        while (this.cursor < this.xs.length && this.xs[this.cursor] <= edgeX) {
+            action.accept(this.factory.apply(this.xs[this.cursor], this.ys[this.cursor]));
+            this.cursor++;
+        }
+    }
+
+    /**
+     * Creates the entities of the positions reached by the spawn edge, when the
+     * factory is all they need, and moves the cursor past them.
+     *
+     * @param edgeX the x coordinate of the map reached by the spawn edge
+     */
+    public void spawnUntil(final int edgeX) {
+        this.spawnUntil(edgeX, entity -> {
+        });
+    }
+
+    /**
+     * Getter for the number of positions that have not spawned yet.
+     *
+     * @return the number of remaining positions
+     */
+    public int remaining() {
+        return this.xs.length - this.cursor;
+    }
+
+    /**
+     * Getter for the number of positions of the whole map.
+     *
+     * @return the number of positions
+     */
+    public int size() {
+        return this.xs.length;
+    }
+}
@@ -0,0 +1,82 @@
+package scramble.model.world;
+
+import java.util.List;
+
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.api.TerrainIndex;
+
+/**
+ * View of the terrain of the {@link Landscape} after a scroll step. The
+ * landscape publishes a new one at every step, and every collision query and
+ * every frame of that step share it.
+ *
+ * <p>
+ * The version changes only when the loaded columns change, not when the
+ * landscape scrolls, so a consumer that caches something built from the
+ * columns can tell whether it is still valid. Two snapshots of different
+ * landscapes never have the same version. The columns are not copied: they
+ * are a {@link ColumnWindow#view()} of the window of the landscape at this
+ * version, that reads its ring until the window has moved by its whole
+ * length again, far longer than a snapshot is kept by the view.
+ * </p>
+ */
+public final class TerrainSnapshot {
+
+    private final List<MapColumn> columns;
+    private final TerrainIndex terrain;
+    private final int scrollX;
+    private final long version;
+
+    /**
+     * Constructor for the class {@code TerrainSnapshot}.
+     *
+     * @param columns the loaded columns
+     * @param terrain the collision index of the terrain
+     * @param scrollX the x coordinate of the map at the left border of the
+     *                screen
+     * @param version the version of the loaded columns
+     */
+    public TerrainSnapshot(final List<MapColumn> columns, final TerrainIndex terrain, final int scrollX,
+            final long version) {
+        this.columns = columns;
+        this.terrain = terrain;
+        this.scrollX = scrollX;
+        this.version = version;
+    }
+
+    /**
+     * Getter for the loaded columns.
+     *
+     * @return the loaded columns
+     */
+    public List<MapColumn> getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * Getter for the collision index of the terrain, in map coordinates.
+     *
+     * @return the terrain index
+     */
+    public TerrainIndex getTerrain() {
+        return this.terrain;
+    }
+
+    /**
+     * Getter for the scroll of the landscape.
+     *
+     * @return the x coordinate of the map at the left border of the screen
+     */
+    public int getScrollX() {
+        return this.scrollX;
+    }
+
+    /**
+     * Getter for the version of the loaded columns.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return this.version;
+    }
+}
@@ -0,0 +1,214 @@
+package scramble.model.world;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Runs the {@link TickSystem}s of a tick on a {@link ForkJoinPool}.
+ *
+ * <p>
+ * The systems are grouped, in the order they are given, in batches of systems
+ * that do not conflict with each other: the systems of a batch run at the same
+ * time and a batch starts when the previous one is over. The loops over many
+ * entities are split in ranges of at least {@code grain} indexes that run on
+ * the pool too. Since the systems of a batch touch different parts of the
+ * world and a loop only touches its own index, a tick ends the same whatever
+ * the number of threads; with a single thread everything runs in order on the
+ * calling thread.
+ * </p>
+ */
+public final class TickScheduler {
+
+    /** Default number of indexes below which a loop is not split. */
+    public static final int DEFAULT_GRAIN = 512;
+
+    private final ForkJoinPool pool;
+    private final int grain;
+    private final boolean parallel;
+
+    /** Class constructor, it runs the systems on the common pool. */
+    public TickScheduler() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param pool  the pool the systems run on
+     * @param grain the number of indexes below which a loop is not split
+     */
+    public TickScheduler(final ForkJoinPool pool, final int grain) {
+        this(pool, grain, pool.getParallelism() > 1);
+        if (grain <= 0) {
+            throw new IllegalArgumentException("The grain must be positive");
+        }
+    }
+
+    private TickScheduler(final ForkJoinPool pool, final int grain, final boolean parallel) {
+        this.pool = pool;
+        this.grain = grain;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns a scheduler that runs everything in order on the calling thread.
+     *
+     * @return the scheduler
+     */
+    public static TickScheduler sequential() {
+        return new TickScheduler(ForkJoinPool.commonPool(), DEFAULT_GRAIN, false);
+    }
+
+    /**
+     * Groups systems in batches of systems that can run at the same time. A
+     * system joins the last batch if it does not conflict with any system of
+     * it, otherwise it starts a new one, so a system always runs after the
+     * systems before it that it conflicts with.
+     *
+     * @param systems the systems, in the order they would run one after another
+     * @return the batches, in order
+     */
+    public List<List<TickSystem>> plan(final List<TickSystem> systems) {
+        final List<List<TickSystem>> batches = new ArrayList<>();
+        List<TickSystem> batch = new ArrayList<>();
+        for (final TickSystem system : systems) {
+            if (batch.stream().anyMatch(system::conflictsWith)) {
+                batches.add(Collections.unmodifiableList(batch));
+                batch = new ArrayList<>();
+            }
+            batch.add(system);
+        }
+        if (!batch.isEmpty()) {
+            batches.add(Collections.unmodifiableList(batch));
+        }
+        return Collections.unmodifiableList(batches);
+    }
+
+    /**
+     * Runs the batches of a plan one after another.
+     *
+     * @param batches the batches returned by {@link #plan(List)}
+     */
+    public void run(final List<List<TickSystem>> batches) {
+        for (final List<TickSystem> batch : batches) {
+            if (this.parallel && batch.size() > 1) {
+                final List<ForkJoinTask<?>> tasks = new ArrayList<>(batch.size());
+                batch.forEach(system -> tasks.add(ForkJoinTask.adapt(system::run)));
+                this.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+            } else {
+                batch.forEach(TickSystem::run);
+            }
+        }
+    }
+
+    /**
+     * Calls an action for every index of a range, splitting it across the pool
+     * when it is large. The action must only touch what belongs to its index.
+     *
+     * @param size   the size of the range, that starts from 0
+     * @param action the action on an index
+     */
+    public void forRange(final int size, final IntConsumer action) {
+        if (this.parallel && size > this.grain) {
+            this.invoke(new RangeAction(0, size, action));
+        } else {
+            for (int i = 0; i < size; i++) {
+                action.accept(i);
+            }
+        }
+    }
+
+    /**
+     * Finds the first index of a range that matches a condition, checking
+     * parts of it at the same time when it is large. The condition must not
+     * change anything.
+     *
+     * @param size      the size of the range, that starts from 0
+     * @param condition the condition on an index
+     * @return the lowest matching index, or -1 if there is none
+     */
+    public int findFirst(final int size, final IntPredicate condition) {
+        if (this.parallel && size > this.grain) {
+            return this.invoke(new FirstTask(0, size, condition));
+        }
+        for (int i = 0; i < size; i++) {
+            if (condition.test(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* A system that is already on the pool forks its work there. */
+    private <T> T invoke(final ForkJoinTask<T> task) {
+        return ForkJoinTask.inForkJoinPool() ? task.invoke() : this.pool.invoke(task);
+    }
+
+    private final class RangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient IntConsumer action;
+
+        RangeAction(final int from, final int to, final IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= TickScheduler.this.grain) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.action.accept(i);
+                }
+            } else {
+                final int mid = (this.from + this.to) >>> 1;
+                invokeAll(new RangeAction(this.from, mid, this.action), new RangeAction(mid, this.to, this.action));
+            }
+        }
+    }
+
+    private final class FirstTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient IntPredicate condition;
+
+        FirstTask(final int from, final int to, final IntPredicate condition) {
+            this.from = from;
+            this.to = to;
+            this.condition = condition;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (this.to - this.from <= TickScheduler.this.grain) {
+                for (int i = this.from; i < this.to; i++) {
+                    if (this.condition.test(i)) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            final int mid = (this.from + this.to) >>> 1;
+            final FirstTask right = new FirstTask(mid, this.to, this.condition);
+            right.fork();
+            final int left = new FirstTask(this.from, mid, this.condition).compute();
+            // The right half is joined even if the left one matched, it may be running
+            final int first = right.join();
+            return left >= 0 ? left : first;
+        }
+    }
+}
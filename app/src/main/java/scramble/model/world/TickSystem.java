@@ -0,0 +1,73 @@
+package scramble.model.world;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A piece of work done at every tick of the {@link GameWorld}, together with
+ * the parts of the world it reads and writes, so that a {@link TickScheduler}
+ * knows which systems can run at the same time. A system that writes a part
+ * also reads it.
+ *
+ * <p>
+ * A system only touches the parts it declares: whatever it has to change
+ * elsewhere, like the score or the fuel, is left to the merge that follows
+ * the systems.
+ * </p>
+ */
+public final class TickSystem {
+
+    private final String name;
+    private final Set<WorldComponent> reads;
+    private final Set<WorldComponent> writes;
+    private final Runnable work;
+
+    /**
+     * Constructor for the class {@code TickSystem}.
+     *
+     * @param name   the name of the system
+     * @param reads  the parts of the world the system only reads
+     * @param writes the parts of the world the system writes
+     * @param work   the work of the system
+     */
+    public TickSystem(final String name, final Set<WorldComponent> reads, final Set<WorldComponent> writes,
+            final Runnable work) {
+        this.name = name;
+        this.writes = writes.isEmpty() ? EnumSet.noneOf(WorldComponent.class) : EnumSet.copyOf(writes);
+        this.reads = EnumSet.copyOf(this.writes);
+        this.reads.addAll(reads);
+        this.work = work;
+    }
+
+    /**
+     * Getter for the name of the system.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Checks if the system must not run at the same time as another one, that
+     * is if one of them writes a part of the world the other one uses.
+     *
+     * @param other the other system
+     * @return true if the two systems conflict
+     */
+    public boolean conflictsWith(final TickSystem other) {
+        return this.writes.stream().anyMatch(other.reads::contains)
+                || other.writes.stream().anyMatch(this.reads::contains);
+    }
+
+    /** Does the work of the system. */
+    public void run() {
+        this.work.run();
+    }
+
+    /** @inheritDoc */
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,23 @@
+package scramble.model.world;
+
+/**
+ * The parts of the {@link GameWorld} a {@link TickSystem} can read or write.
+ * Two systems that do not write a part the other one uses can run at the same
+ * time.
+ */
+public enum WorldComponent {
+    /** The spaceship. */
+    SPACESHIP,
+    /** The landscape, its terrain and the scroll of the map. */
+    LANDSCAPE,
+    /** The flying bullets and their pools. */
+    BULLETS,
+    /** The store of the rockets. */
+    ROCKETS,
+    /** The boss. */
+    BOSS,
+    /** The store of the fuel tanks. */
+    TANKS,
+    /** The rocket found on the ceiling, crashed by the world after the collisions. */
+    CRASHED_ROCKET
+}
@@ -0,0 +1,15 @@
+package scramble.model.world;
+
+/**
+ * The states of a {@link GameWorld}.
+ */
+public enum WorldState {
+    /** The game is running. */
+    RUNNING,
+    /** The spaceship has been destroyed, the world waits before the restart. */
+    DESTROYED,
+    /** The spaceship has been destroyed with no lives left. */
+    GAME_OVER,
+    /** The boss has left the screen, the game is completed. */
+    COMPLETED
+}
@@ -2,9 +2,7 @@ package scramble.utility;
 
 import scramble.model.bullets.BulletType;
 import scramble.model.common.impl.PairImpl;
-import scramble.model.enemy.Rocket;
 import scramble.model.map.util.LandUtils;
-import scramble.model.tank.FuelTank;
 
 import java.util.Map;
 
@@ -33,6 +31,22 @@ public final class Constants {
          * controller/mediator/RepaintManager.
          */
         public static final int CICLE_BEFORE_BACKGROUND_REPAINT = 30;
+        /**
+         * Duration in ms of a single simulation tick of the game loop. Used in
+         * controller/loop/GameLoop.
+         */
+        public static final int GAME_TICK_MS = 16;
+        /**
+         * Maximum number of simulation ticks run in a single frame to catch up with
+         * the wall clock; any further backlog is skipped. Used in
+         * controller/loop/GameLoop.
+         */
+        public static final int MAX_CATCH_UP_TICKS = 5;
+        /**
+         * Time in ms between two frames drawn by the render thread. Used in
+         * view/compact/GameView.
+         */
+        public static final int RENDER_PERIOD_MS = 16;
 
         // Model
         /**
@@ -61,7 +75,7 @@ public final class Constants {
                         BulletType.TYPE_HORIZONTAL, new PairImpl<>(5, 5),
                         BulletType.TYPE_BOMB, new PairImpl<>(42, 52));
 
-        /** Rocket enemy speed. Used in RocketImpl.java . */
+        /** Rocket enemy speed. Used in model/world/GameWorld. */
         public static final float ROCKET_SPEED = 3.5f;
 
         /** File path for the scores .json saved list. Used in model/scores/Scores. */
@@ -75,7 +89,7 @@ public final class Constants {
         public static final int MAX_FUEL = 100;
         /** Amount of fuel consumed every tick. Used in model/spaceship/FuelBar. */
         public static final int FUEL_DECREASE_AMOUNT = 1;
-        /** Ammount of fuel refilled by {@link FuelTank}. */
+        /** Ammount of fuel refilled by a fuel tank. */
         public static final int FUEL_REFILL = 15;
         /** Number of Spaceship sprites. Used in model/spaceship/SpaceShip. */
         public static final int SPRITE_SPACESHIP = 8;
@@ -98,6 +112,12 @@ public final class Constants {
         public static final int BOSS_SPAWN_POINT = 26_500;
 
         // view
+        /** Width of the game window. Used in view/compact/GameView and model/world. */
+        public static final int WINDOW_WIDTH = 800;
+        /** Height of the game window. Used in view/compact/GameView and model/world. */
+        public static final int WINDOW_HEIGHT = Constants.SPRITE_PER_STAGE_HEIGHT
+                        * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+
         /**
          * Number of stars generated in the background. Used in
          * view/compact/BackgroundPanel.
@@ -105,8 +125,8 @@ public final class Constants {
         public static final int NUMBER_OF_STAR_IN_BACKGROUND = 100;
 
         /**
-         * Landscape movement speed. Used in view/compact/LandscapePanel and in
-         * view/compact/BulletsPanel.
+         * Landscape movement speed. Used in model/world/Landscape and in
+         * model/world/GameWorld.
          */
         public static final int LANDSCAPEX_SPEED = 4; // 4
 
@@ -149,9 +169,9 @@ public final class Constants {
         /** Number of sprites per prestage per column. */
         public static final int SPRITE_PER_PRESTAGE_WIDTH = 70;
 
-        /** The end of the map for the {@link Rocket} and {@link FuelTank} spawning. */
+        /** The end of the map for the rockets and fuel tanks spawning. */
         public static final int END_OF_SPAWNING = 27_000;
-        /** The end of {@link ROcket} spawn. */
+        /** The end of the rockets spawn. */
         public static final int END_OF_ROCKET_SPAWN = (SPRITE_PER_STAGE_WIDTH * 4 + SPRITE_PER_PRESTAGE_WIDTH)
                         * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
 
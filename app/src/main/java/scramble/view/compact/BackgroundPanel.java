@@ -7,8 +7,9 @@ import java.util.List;
 import java.util.Random;
 
 import javax.swing.JPanel;
-import javax.swing.Timer;
 
+import scramble.controller.loop.GameLoop;
+import scramble.controller.loop.TickPhase;
 import scramble.model.common.api.Pair;
 import scramble.model.common.impl.PairImpl;
 import scramble.utility.Constants;
@@ -22,35 +23,23 @@ import scramble.utility.Constants;
 public class BackgroundPanel extends GamePanel {
 
     private static final long serialVersionUID = 1L;
+    private static final int STARS_PERIOD = 1000;
 
     private final Random rand;
-    private final Timer backgroundTimer;
 
-    private transient List<Pair<Integer, Integer>> starPositionXY;
+    // Replaced as a whole, it can be drawn by a thread while another one moves it
+    private transient volatile List<Pair<Integer, Integer>> starPositionXY;
 
     /** Costructor of the BackgroundPanel class. */
     public BackgroundPanel() {
-        this.newStartPositionXY();
         this.rand = new Random();
-        this.backgroundTimer = new Timer(1000, e -> this.randomizeStarsPositionXY());
+        this.randomizeStarsPositionXY();
     }
 
-    /** @inheritDoc */
+    /** {@inheritDoc} */
     @Override
-    public void startTimer() {
-        this.backgroundTimer.start();
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void stopTimer() {
-        this.backgroundTimer.stop();
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void restartTimer() {
-        this.backgroundTimer.restart();
+    public void attachTo(final GameLoop loop) {
+        this.subscribe(loop, TickPhase.MOVEMENT, STARS_PERIOD, this::randomizeStarsPositionXY);
     }
 
     /**
@@ -58,31 +47,26 @@ public class BackgroundPanel extends GamePanel {
      */
     @Override
     protected void drawPanel(final Graphics g) {
-        if (starPositionXY.isEmpty()) {
-            randomizeStarsPositionXY();
-        }
+        final List<Pair<Integer, Integer>> stars = starPositionXY;
 
         g.setColor(Color.BLACK);
         g.fillRect(0, 0, GameView.WINDOW_WIDTH, GameView.WINDOW_WIDTH);
 
         g.setColor(Color.WHITE);
         for (int i = 0; i < Constants.NUMBER_OF_STAR_IN_BACKGROUND; i++) {
-            final int x = starPositionXY.get(i).getFirstElement();
-            final int y = starPositionXY.get(i).getSecondElement();
+            final int x = stars.get(i).getFirstElement();
+            final int y = stars.get(i).getSecondElement();
             g.fillRect(x, y, 2, 2);
         }
     }
 
     private void randomizeStarsPositionXY() {
-        starPositionXY.clear();
+        final List<Pair<Integer, Integer>> stars = new ArrayList<>();
         for (int i = 0; i < Constants.NUMBER_OF_STAR_IN_BACKGROUND; i++) {
             final int x = rand.nextInt(GameView.WINDOW_WIDTH);
             final int y = rand.nextInt(GameView.WINDOW_WIDTH);
-            this.starPositionXY.add(new PairImpl<>(x, y));
+            stars.add(new PairImpl<>(x, y));
         }
-    }
-
-    private void newStartPositionXY() {
-        this.starPositionXY = new ArrayList<>();
+        this.starPositionXY = List.copyOf(stars);
     }
 }
@@ -0,0 +1,42 @@
+package scramble.view.compact;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import scramble.model.common.util.AssetRegistry;
+import scramble.model.world.DrawList;
+import scramble.model.world.RenderLayer;
+import scramble.model.world.RenderSnapshot;
+
+/**
+ * Draws the {@link DrawList}s of a {@link RenderSnapshot} with the frames of
+ * the {@link AssetRegistry}, between the previous update and the last one.
+ */
+public final class DrawListPainter {
+
+    private DrawListPainter() {
+    }
+
+    /**
+     * Draws a layer of the snapshot of a frame, at the alpha of the frame. The
+     * layers on the map are moved by the camera of the frame.
+     *
+     * @param g      the graphics to draw on
+     * @param source the frame to draw
+     * @param layer  the layer to draw
+     */
+    public static void paint(final Graphics g, final FrameSource source, final RenderLayer layer) {
+        final DrawList commands = source.current().getLayer(layer);
+        final double alpha = source.getAlpha(layer);
+        final int offsetX = layer.isOnMap() ? source.getCameraX() : 0;
+        for (int i = 0; i < commands.size(); i++) {
+            final List<BufferedImage> frames = AssetRegistry.getFrames(commands.asset(i));
+            if (!frames.isEmpty()) {
+                g.drawImage(frames.get(Math.floorMod(commands.frame(i), frames.size())),
+                        commands.x(i, alpha) - offsetX, commands.y(i, alpha), commands.width(i),
+                        commands.height(i), null);
+            }
+        }
+    }
+}
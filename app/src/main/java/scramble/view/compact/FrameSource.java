@@ -0,0 +1,103 @@
+package scramble.view.compact;
+
+import java.util.concurrent.TimeUnit;
+
+import scramble.model.common.api.TripleBuffer;
+import scramble.model.common.impl.TripleBufferImpl;
+import scramble.model.world.RenderLayer;
+import scramble.model.world.RenderSnapshot;
+
+/**
+ * The snapshots the panels draw, with how far the frame being drawn is from
+ * the tick they were captured at. A frame starts with {@link #beginFrame()},
+ * that takes the last snapshot published and fixes the alpha of the frame, so
+ * that every panel draws the same instant.
+ *
+ * <p>
+ * The alpha only grows from 0, when a snapshot is taken, to 1, a tick later: a
+ * frame drawn faster than the ticks shows the world between two updates, one
+ * later shows the last update and stays there.
+ * </p>
+ */
+public final class FrameSource {
+
+    private final TripleBuffer<RenderSnapshot> frames;
+    private final long tickNanos;
+    private long acquiredAt;
+    private double alpha = 1;
+
+    /**
+     * Class constructor.
+     *
+     * @param frames the snapshots published by the simulation
+     * @param tickMs the time between two ticks of the simulation, in
+     *               milliseconds
+     */
+    public FrameSource(final TripleBuffer<RenderSnapshot> frames, final int tickMs) {
+        this.frames = frames;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+    }
+
+    /**
+     * Creates a source that always gives the same snapshot, at its last update.
+     *
+     * @param snapshot the snapshot
+     * @return the source
+     */
+    public static FrameSource of(final RenderSnapshot snapshot) {
+        return new FrameSource(new TripleBufferImpl<>(() -> snapshot), 0);
+    }
+
+    /**
+     * Starts a frame: takes the last snapshot published, if there is a new one,
+     * and computes how far the frame is from it. It must be called by the
+     * thread that draws.
+     */
+    public void beginFrame() {
+        final long now = System.nanoTime();
+        if (this.frames.acquire()) {
+            this.acquiredAt = now;
+        }
+        this.alpha = this.tickNanos == 0 ? 1 : Math.min(1, (double) (now - this.acquiredAt) / this.tickNanos);
+    }
+
+    /**
+     * Getter for the snapshot of the frame.
+     *
+     * @return the snapshot
+     */
+    public RenderSnapshot current() {
+        return this.frames.front();
+    }
+
+    /**
+     * Getter for how far the frame is from the tick of its snapshot.
+     *
+     * @return the alpha, from 0 to 1
+     */
+    public double getTickAlpha() {
+        return this.alpha;
+    }
+
+    /**
+     * Getter for the alpha a layer of the snapshot is drawn with, see
+     * {@link RenderSnapshot#getAlpha(RenderLayer, double)}.
+     *
+     * @param layer the layer
+     * @return the alpha, from 0 to 1
+     */
+    public double getAlpha(final RenderLayer layer) {
+        return this.current().getAlpha(layer, this.alpha);
+    }
+
+    /**
+     * Getter for the camera of the frame, between the previous scrolling of the
+     * snapshot and the last one.
+     *
+     * @return the x coordinate of the camera
+     */
+    public int getCameraX() {
+        final RenderSnapshot snapshot = this.current();
+        return snapshot.getCameraX(snapshot.getScrollAlpha(this.alpha));
+    }
+}
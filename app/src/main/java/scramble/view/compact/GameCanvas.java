@@ -0,0 +1,104 @@
+package scramble.view.compact;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.JLayeredPane;
+
+/**
+ * Active renderer of the game. It draws the {@link GamePanel}s of a
+ * {@link JLayeredPane} on a single page flipped {@link BufferStrategy}, from
+ * the bottom layer to the top one, instead of letting Swing composite every
+ * panel.
+ *
+ * <p>
+ * The layered pane is only used to know which panels are shown and in which
+ * order: it is never displayed, so no repaint is ever requested to Swing. The
+ * canvas is drawn by a {@link RenderThread}, not by the EDT.
+ * </p>
+ */
+public class GameCanvas extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BUFFERS = 2;
+
+    private final JLayeredPane layers;
+
+    /**
+     * Class constructor.
+     *
+     * @param layers the panels to draw
+     */
+    public GameCanvas(final JLayeredPane layers) {
+        this.layers = layers;
+        this.setPreferredSize(new Dimension(GameView.WINDOW_WIDTH, GameView.WINDOW_HEIGHT));
+        this.setBackground(Color.BLACK);
+        this.setIgnoreRepaint(true);
+        // The key listener is on the frame, the canvas must not steal the focus
+        this.setFocusable(false);
+    }
+
+    /**
+     * Creates the back buffer. The canvas must be displayable, so this is done
+     * after the frame is shown.
+     */
+    public void createBuffers() {
+        this.createBufferStrategy(BUFFERS);
+    }
+
+    /** Draws a frame and shows it. */
+    public void render() {
+        final BufferStrategy strategy = this.getBufferStrategy();
+        if (strategy == null) {
+            return;
+        }
+        do {
+            do {
+                final Graphics g = strategy.getDrawGraphics();
+                try {
+                    g.setColor(this.getBackground());
+                    g.fillRect(0, 0, this.getWidth(), this.getHeight());
+                    drawLayers(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Draws the shown panels, from the bottom one to the top one.
+     *
+     * @param g the graphics to draw on
+     */
+    public void drawLayers(final Graphics g) {
+        // The panels are swapped on the EDT, they are drawn by the render thread
+        final List<GamePanel> panels = new ArrayList<>();
+        synchronized (this.layers.getTreeLock()) {
+            // The last component of a layered pane is the bottom one
+            for (int i = this.layers.getComponentCount() - 1; i >= 0; i--) {
+                final Component component = this.layers.getComponent(i);
+                if (component instanceof GamePanel && component.isVisible()) {
+                    panels.add((GamePanel) component);
+                }
+            }
+        }
+        for (final GamePanel panel : panels) {
+            final Graphics layer = g.create(panel.getX(), panel.getY(), panel.getWidth(), panel.getHeight());
+            try {
+                panel.drawLayer(layer);
+            } finally {
+                layer.dispose();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package scramble.view.compact;
 
+import scramble.controller.loop.GameLoop;
 import scramble.view.font.ScrambleFontUtil;
 
 import java.awt.Graphics;
@@ -19,7 +20,7 @@ public class GameOverPanel extends GamePanel {
     private static final int TEXT_SCALE = GameView.WINDOW_HEIGHT / 6;
 
     private final Font retroFont;
-    private boolean overlayOn;
+    private volatile boolean overlayOn;
 
     /** Class constructor. */
     public GameOverPanel() {
@@ -66,6 +67,12 @@ public class GameOverPanel extends GamePanel {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void attachTo(final GameLoop loop) {
+        // The overlay is static, nothing to update
+    }
+
     /** {@inheritDoc} */
     @Override
     public void startTimer() {
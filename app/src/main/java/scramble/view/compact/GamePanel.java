@@ -1,30 +1,52 @@
 package scramble.view.compact;
 
 import javax.swing.JPanel;
+
+import scramble.controller.loop.GameLoop;
+import scramble.controller.loop.Subscription;
+import scramble.controller.loop.TickPhase;
+
 import java.awt.Graphics;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Abstract class for the rappresentation of a JPanel in the game.
  * This class extends javax.swing.JPanel.
- * 
+ *
+ * <p>
+ * The periodic work of a panel is not driven by its own timer, but by
+ * {@link Subscription}s on the {@link GameLoop} the panel is attached to.
+ * </p>
+ *
  * @see JPanel
  */
 public abstract class GamePanel extends JPanel {
 
     private static final long serialVersionUID = 1L;
 
+    private final transient List<Subscription> subscriptions = new ArrayList<>();
+
     /**
      * Method for the update of the panel.
-     * 
+     *
      * @param g
-     * 
+     *
      *          Pattern Adapter
      */
     protected abstract void drawPanel(Graphics g);
 
+    /**
+     * Registers the periodic work of the panel on the game loop. The
+     * subscriptions are created stopped.
+     *
+     * @param loop the game loop
+     */
+    public abstract void attachTo(GameLoop loop);
+
     /**
      * {@inheritDoc}
-     * 
+     *
      * Pattern Decorator
      */
     @Override
@@ -34,17 +56,50 @@ public abstract class GamePanel extends JPanel {
     }
 
     /**
-     * Starts timer of the singular.
+     * Draws the panel on a graphics that does not belong to it, as the
+     * {@link GameCanvas} does.
+     *
+     * @param g the graphics, translated and clipped to the bounds of the panel
+     */
+    public final void drawLayer(final Graphics g) {
+        if (isOpaque()) {
+            g.setColor(getBackground());
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+        drawPanel(g);
+    }
+
+    /**
+     * Starts the loop subscriptions of the singular panel.
      */
-    public abstract void startTimer();
+    public void startTimer() {
+        this.subscriptions.forEach(Subscription::start);
+    }
 
     /**
-     * Stops timer of the singular panel.
+     * Stops the loop subscriptions of the singular panel.
      */
-    public abstract void stopTimer();
+    public void stopTimer() {
+        this.subscriptions.forEach(Subscription::stop);
+    }
 
     /**
-     * Restarts timer of the simgular panel.
+     * Restarts the loop subscriptions of the singular panel.
      */
-    public abstract void restartTimer();
+    public void restartTimer() {
+        this.subscriptions.forEach(Subscription::restart);
+    }
+
+    /**
+     * Registers a periodic task of the panel on the game loop.
+     *
+     * @param loop     the game loop
+     * @param phase    the phase in which the task is executed
+     * @param periodMs the period of the task in milliseconds
+     * @param task     the task
+     */
+    protected final void subscribe(final GameLoop loop, final TickPhase phase, final int periodMs,
+            final Runnable task) {
+        this.subscriptions.add(loop.subscribe(phase, periodMs, task));
+    }
 }
@@ -7,16 +7,18 @@ import javax.swing.JLayeredPane;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.awt.Dimension;
+import java.util.List;
 
-import scramble.model.common.impl.PairImpl;
-import scramble.model.map.util.LandUtils;
+import scramble.model.common.api.TripleBuffer;
+import scramble.model.common.impl.TripleBufferImpl;
 import scramble.model.scores.Scores;
+import scramble.model.world.GameWorld;
+import scramble.model.world.RenderSnapshot;
 import scramble.utility.Constants;
-import scramble.controller.map.MapController;
+import scramble.controller.loop.GameLoop;
+import scramble.controller.loop.TickPhase;
 import scramble.controller.mediator.LogicController;
 
-import javax.swing.Timer;
-
 /**
  * Class that extends javax.swing.JFrame. This class is the main view of the
  * game.
@@ -26,13 +28,28 @@ import javax.swing.Timer;
 public class GameView extends JFrame {
 
     /** Width of the window. */
-    public static final int WINDOW_WIDTH = 800;
+    public static final int WINDOW_WIDTH = Constants.WINDOW_WIDTH;
     /** Height of the window. */
-    public static final int WINDOW_HEIGHT = LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT);
+    public static final int WINDOW_HEIGHT = Constants.WINDOW_HEIGHT;
+    /**
+     * System property that selects the renderer. With the value
+     * {@code swing} the panels are composited by Swing, otherwise they are
+     * drawn by the {@link GameCanvas}.
+     */
+    public static final String RENDERER_PROPERTY = "scramble.renderer";
 
     private static final long serialVersionUID = 1L;
-
+    private static final int END_GAME_DELAY = 5000;
+    private static final String SWING_RENDERER = "swing";
+
+    private final transient GameLoop gameLoop;
+    private final transient GameWorld gameWorld;
+    private final transient TripleBuffer<RenderSnapshot> frames;
+    private final transient FrameSource frameSource;
+    private final transient RenderThread renderThread;
     private final JLayeredPane mainPanel;
+    private final GameCanvas gameCanvas;
+    private final boolean activeRendering;
     private final BackgroundPanel backgroundPanel;
     private final LandscapePanel landscapePanel;
     private final SpaceShipPanel spaceShipPanel;
@@ -43,13 +60,23 @@ public class GameView extends JFrame {
     private final FuelTankPanel fuelTankPanel;
     private final LogicController logicController;
     private final GameOverPanel gameOverPanel;
-    private final Timer repaintTimer;
 
     /** Constructor of the class GameView. */
     public GameView() {
 
+        this.gameLoop = new GameLoop();
+        this.gameWorld = new GameWorld();
+        // The panels only draw the snapshots the world publishes
+        this.frames = new TripleBufferImpl<>(RenderSnapshot::new);
+        this.gameWorld.capture(this.frames.back());
+        this.frames.publish();
+        this.frameSource = new FrameSource(this.frames, Constants.GAME_TICK_MS);
+
         this.mainPanel = new JLayeredPane();
         this.mainPanel.setPreferredSize(new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT));
+        this.gameCanvas = new GameCanvas(this.mainPanel);
+        this.activeRendering = !SWING_RENDERER.equals(System.getProperty(RENDERER_PROPERTY));
+        this.renderThread = new RenderThread(this.gameCanvas, this.frameSource, Constants.RENDER_PERIOD_MS);
 
         this.backgroundPanel = new BackgroundPanel();
         this.backgroundPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
@@ -59,51 +86,53 @@ public class GameView extends JFrame {
         this.startMenu.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.mainPanel.add(startMenu, JLayeredPane.PALETTE_LAYER);
 
-        this.landscapePanel = new LandscapePanel();
+        this.landscapePanel = new LandscapePanel(this.frameSource);
         this.landscapePanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.landscapePanel.setOpaque(false);
 
         // SpaceShip panel setup
-        this.spaceShipPanel = new SpaceShipPanel();
+        this.spaceShipPanel = new SpaceShipPanel(this.frameSource);
         this.spaceShipPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.spaceShipPanel.setOpaque(false);
 
         // Bullets panel setup
-        this.bulletsPanel = new BulletsPanel();
+        this.bulletsPanel = new BulletsPanel(this.frameSource);
         this.bulletsPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.bulletsPanel.setOpaque(false);
 
         // FuelBar panel setup
-        this.hudPanel = new HUDPanel();
+        this.hudPanel = new HUDPanel(this.frameSource);
         this.hudPanel.setSize(new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT));
         this.hudPanel.setOpaque(false);
 
         // Rocket panel setup
-        this.rocketPanel = new RocketPanel();
+        this.rocketPanel = new RocketPanel(this.frameSource);
         this.rocketPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.rocketPanel.setOpaque(false);
 
         // FuelTank panel setup
-        this.fuelTankPanel = new FuelTankPanel(hudPanel.getFuelBar());
+        this.fuelTankPanel = new FuelTankPanel(this.frameSource);
         this.fuelTankPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.fuelTankPanel.setOpaque(false);
 
-        this.logicController = new LogicController(this);
-
         this.gameOverPanel = new GameOverPanel();
         gameOverPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.gameOverPanel.setOpaque(false);
 
-        this.repaintTimer = new Timer(32, e -> {
+        for (final GamePanel panel : List.of(backgroundPanel, startMenu, landscapePanel, spaceShipPanel,
+                bulletsPanel, hudPanel, rocketPanel, fuelTankPanel, gameOverPanel)) {
+            panel.attachTo(this.gameLoop);
+        }
+
+        if (!this.activeRendering) {
+            // Swing paints on the EDT, that is then the reader of the snapshots
+            this.gameLoop.subscribe(TickPhase.RENDER, 0, () -> {
+                this.frameSource.beginFrame();
+                this.mainPanel.repaint();
+            }).start();
+        }
 
-            this.fuelTankPanel.setMapX(this.landscapePanel.getCurrentMapX());
-            mainPanel.repaint();
-            this.rocketPanel.setMapX(this.landscapePanel.getCurrentMapX());
-            this.bulletsPanel.moveBullets();
-            if (rocketPanel.isBossOutOfScreen()) {
-                showGameOverScreen();
-            }
-        });
+        this.logicController = new LogicController(this);
 
         this.backgroundPanel.startTimer();
 
@@ -118,8 +147,17 @@ public class GameView extends JFrame {
         this.setResizable(false);
         this.setSize(WINDOW_WIDTH, WINDOW_HEIGHT);
         this.setLocationRelativeTo(null);
-        this.add(mainPanel);
+        if (this.activeRendering) {
+            this.add(gameCanvas);
+        } else {
+            this.add(mainPanel);
+        }
         this.setVisible(true);
+        if (this.activeRendering) {
+            this.gameCanvas.createBuffers();
+            this.renderThread.start();
+        }
+        this.gameLoop.start();
     }
 
     /**
@@ -130,7 +168,14 @@ public class GameView extends JFrame {
     public GameView(final GameView view) {
 
         super();
+        this.gameLoop = view.getGameLoop();
+        this.gameWorld = view.getGameWorld();
+        this.frames = view.getSnapshots();
+        this.frameSource = view.frameSource;
+        this.renderThread = view.renderThread;
         this.mainPanel = view.getMainPanel();
+        this.gameCanvas = view.gameCanvas;
+        this.activeRendering = view.activeRendering;
         this.backgroundPanel = view.getBackgroundPanel();
         this.startMenu = view.getStartMenu();
         this.landscapePanel = view.getLandscapePanel();
@@ -140,11 +185,41 @@ public class GameView extends JFrame {
         this.rocketPanel = view.getRocketPanel();
         this.fuelTankPanel = view.getFuelTankPanel();
         this.logicController = view.getLogicController();
-        this.repaintTimer = view.getRepaintTimer();
         this.gameOverPanel = view.getGameOverPanel();
 
     }
 
+    /**
+     * Getter of the game loop that drives the view.
+     *
+     * @return the game loop of this GameView
+     */
+    @SuppressFBWarnings
+    public GameLoop getGameLoop() {
+        return this.gameLoop;
+    }
+
+    /**
+     * Getter of the world shown by the view.
+     *
+     * @return the game world of this GameView
+     */
+    @SuppressFBWarnings
+    public GameWorld getGameWorld() {
+        return this.gameWorld;
+    }
+
+    /**
+     * Getter of the snapshots of the world drawn by the view. The world is
+     * captured in the back one and published at every tick.
+     *
+     * @return the buffer of the snapshots
+     */
+    @SuppressFBWarnings
+    public TripleBuffer<RenderSnapshot> getSnapshots() {
+        return this.frames;
+    }
+
     /**
      * Getter of the mainPanel.
      *
@@ -276,123 +351,38 @@ public class GameView extends JFrame {
 
         this.mainPanel.add(hudPanel, JLayeredPane.POPUP_LAYER);
         // this.hudPanel.startTimer();
-        this.hudPanel.resetStage();
 
         this.startMenu.stopTimer();
-        this.startAllPanelTimers();
+        this.logicController.startGame();
 
         // Change the magic number and uncomment below
         // in order to start further on the map then the beginning
-        // this.landscapePanel.reset(26800);
-        // this.rocketPanel.setMapX(landscapePanel.getCurrentMapX());
-        // this.fuelTankPanel.setMapX(landscapePanel.getCurrentMapX());
-        // this.rocketPanel.resetRockets();
-        // this.fuelTankPanel.resetTanks();
+        // this.gameWorld.restartFrom(26800);
 
     }
 
-    /** Resets to start menu. */
+    /**
+     * Resets to start menu. The game must have been stopped by the
+     * {@link LogicController}.
+     */
     public final void setStart() {
 
-        this.stopAllPanelTimers();
-        Scores.addScore(Scores.getCurrentScore());
-        Scores.resetCurrentScore();
+        Scores.addScore(this.gameWorld.getScore());
 
         this.mainPanel.removeAll();
 
-        this.landscapePanel.reset(0);
-        this.rocketPanel.setMapX(0);
-        this.fuelTankPanel.setMapX(0);
-        this.rocketPanel.resetRockets();
-        this.fuelTankPanel.resetTanks();
-        LogicController.resetLives();
-
-        this.spaceShipPanel.getSpaceship()
-                .updatePosition(
-                        new PairImpl<>(Constants.SPACESHIP_STARTER_POSITION, Constants.SPACESHIP_STARTER_POSITION));
-
         this.mainPanel.add(backgroundPanel, JLayeredPane.DEFAULT_LAYER);
         this.mainPanel.add(startMenu, JLayeredPane.PALETTE_LAYER);
 
-        hudPanel.getFuelBar().fillFuel();
-
         this.startMenu.startTimer();
 
     }
 
     /**
-     * Resets to the nearest checkpoint.
-     *
-     * @param restartPos X pos of selected checkpoint
+     * Shows the game over screen, then goes back to the start menu. The game
+     * must have been stopped by the {@link LogicController}.
      */
-    public void restartFromCheckPoint(final int restartPos) {
-
-        landscapePanel.reset(restartPos);
-        spaceShipPanel.getSpaceship()
-                .updatePosition(
-                        new PairImpl<>(Constants.SPACESHIP_STARTER_POSITION,
-                                Constants.SPACESHIP_STARTER_POSITION));
-        hudPanel.getFuelBar().fillFuel();
-        this.rocketPanel.setMapX(0);
-        this.rocketPanel.resetRockets();
-        this.fuelTankPanel.setMapX(this.landscapePanel.getCurrentMapX());
-        this.fuelTankPanel.resetTanks();
-
-    }
-
-    /**
-     * Calculates nearest checkpoint.
-     *
-     * @return the checkpoint
-     */
-    public int returnToCheckPoint() {
-        final int size = MapController.getStageStartingX().size();
-        for (int i = size - 1; i > 1; i--) {
-            if (MapController.getStageStartingX().get(i) < this.landscapePanel
-                    .getCurrentMapX()) {
-                return MapController.getStageStartingX().get(i);
-            }
-        }
-        return MapController.getStageStartingX().get(1);
-    }
-
-    /** Stops all the timers of the singular panels inside game view. */
-    public final void stopAllPanelTimers() {
-        this.landscapePanel.stopTimer();
-        this.bulletsPanel.stopTimer();
-        this.spaceShipPanel.stopTimer();
-        this.hudPanel.stopTimer();
-        this.rocketPanel.stopTimer();
-        this.fuelTankPanel.stopTimer();
-    }
-
-    /** Starts all the timers of the singular panels inside game view. */
-    public void startAllPanelTimers() {
-        this.landscapePanel.startTimer();
-        this.bulletsPanel.startTimer();
-        this.spaceShipPanel.startTimer();
-        this.hudPanel.startTimer();
-        this.rocketPanel.startTimer();
-        this.fuelTankPanel.startTimer();
-    }
-
-    /** Restarts all the timers of the singular panels inside game view. */
-    public void restartAllPanelTimers() {
-        this.landscapePanel.restartTimer();
-        this.bulletsPanel.restartTimer();
-        this.spaceShipPanel.restartTimer();
-        this.hudPanel.restartTimer();
-        this.rocketPanel.restartTimer();
-        this.fuelTankPanel.restartTimer();
-    }
-
-    /** Starts repaint timer. */
-    public void startRepaintTimer() {
-        this.repaintTimer.start();
-    }
-
-    private void showGameOverScreen() {
-        stopAllPanelTimers(); // Stop all ongoing game processes
+    public void showGameOverScreen() {
         this.mainPanel.removeAll(); // Clear current game view
 
         // Add the background panel to retain the starry background
@@ -405,21 +395,10 @@ public class GameView extends JFrame {
 
         this.mainPanel.repaint(); // Ensure the panel is rendered
 
-        final Timer endGameTimer = new Timer(5000, e -> {
+        this.gameLoop.schedule(TickPhase.SCORING, END_GAME_DELAY, () -> {
             gameOverPanel.disableOverlay();
             setStart();
         });
-        endGameTimer.setRepeats(false);
-        endGameTimer.start();
-    }
-
-    /**
-     * Getter for the repaint timer.
-     *
-     * @return the timer
-     */
-    private Timer getRepaintTimer() {
-        return this.repaintTimer;
     }
 
     /**
@@ -427,7 +406,8 @@ public class GameView extends JFrame {
      *
      * @return the logic controller
      */
-    private LogicController getLogicController() {
+    @SuppressFBWarnings
+    public LogicController getLogicController() {
         return this.logicController;
     }
 }
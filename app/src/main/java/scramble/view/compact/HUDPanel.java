@@ -8,14 +8,12 @@ import java.io.IOException;
 import java.util.logging.Logger;
 
 import javax.imageio.ImageIO;
-import javax.swing.Timer;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
 
-import scramble.controller.mediator.LogicController;
+import scramble.controller.loop.GameLoop;
 import scramble.model.common.util.BufferedImageManager;
-import scramble.model.scores.Scores;
 import scramble.model.spaceship.FuelBar;
 import scramble.utility.Constants;
 import scramble.view.font.ScrambleFontUtil;
@@ -31,33 +29,24 @@ public final class HUDPanel extends GamePanel {
     private static final int LIVES_DIM = 5;
     private static final List<Float> STAGE_BAR_PAR = new ArrayList<>(
             Arrays.asList(0.16f, 0.33f, 0.5f, 0.66f, 0.83f));
-    private static final List<Integer> STAGES = new ArrayList<>(
-            Arrays.asList(1, 2, 3, 4, 5));
-    private static final int INDEX_FIVE = 5;
     private static final Logger LOG = Logger.getLogger(FuelBar.class.getName());
-    private final transient FuelBar fuelBar;
-    private static final int SEC = 800;
+    private final transient FrameSource frames;
 
     private transient BufferedImage fuelBarFull;
     private transient BufferedImage fuelBarEmpty;
     private transient BufferedImage stageHud;
 
-    private final Timer fuelTimer;
     private final Font retroFont;
 
-    private int stage;
-
-    /** Class constructor. */
-    public HUDPanel() {
+    /**
+     * Class constructor.
+     *
+     * @param frames the source of the snapshots whose state is shown
+     */
+    public HUDPanel(final FrameSource frames) {
         loadImages();
-        fuelBar = new FuelBar();
+        this.frames = frames;
         retroFont = ScrambleFontUtil.loadFont(FONT_SIZE);
-
-        this.fuelTimer = new Timer(SEC, e -> {
-            changeStage();
-            this.fuelBar.decreaseFuel(Constants.FUEL_DECREASE_AMOUNT);
-        });
-
     }
 
     /**
@@ -71,62 +60,10 @@ public final class HUDPanel extends GamePanel {
         paintLives(g);
     }
 
-    /**
-     * Getter for the fuel bar.
-     *
-     * @return the fuel bar
-     */
-    public FuelBar getFuelBar() {
-        return fuelBar;
-    }
-
-    /**
-     *
-     */
-    public void changeStage() {
-        final int pos = LandscapePanel.getMapController().getCurrentMapX();
-
-        if (pos > LogicController.getCheckPoints().get(1).getFirstElement()
-                && pos < LogicController.getCheckPoints().get(2).getFirstElement()) {
-            stage = STAGES.get(0);
-        } else if (pos > LogicController.getCheckPoints().get(2).getFirstElement()
-                && pos < LogicController.getCheckPoints().get(3).getFirstElement()) {
-            stage = STAGES.get(1);
-        } else if (pos > LogicController.getCheckPoints().get(3).getFirstElement()
-                && pos < LogicController.getCheckPoints().get(4).getFirstElement()) {
-            stage = STAGES.get(2);
-        } else if (pos > LogicController.getCheckPoints().get(4).getFirstElement()
-                && pos < LogicController.getCheckPoints().get(INDEX_FIVE).getFirstElement()) {
-            stage = STAGES.get(3);
-        } else if (pos > LogicController.getCheckPoints().get(INDEX_FIVE).getFirstElement()) {
-            stage = STAGES.get(4);
-        }
-
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void startTimer() {
-        fuelTimer.start();
-    }
-
-    /** @inheritDoc */
+    /** {@inheritDoc} */
     @Override
-    public void stopTimer() {
-        fuelTimer.stop();
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void restartTimer() {
-        fuelTimer.restart();
-    }
-
-    /**
-     * Reset the number of stages to the starting stage.
-     */
-    public void resetStage() {
-        this.stage = 0;
+    public void attachTo(final GameLoop loop) {
+        // Fuel, stage, score and lives are kept by the world, nothing to update
     }
 
     private void paintStageHud(final Graphics g) {
@@ -135,6 +72,7 @@ public final class HUDPanel extends GamePanel {
 
         final int x = (getWidth() - widthHud) / 2;
         final int y = 10;
+        final int stage = this.frames.current().getStage();
 
         if (stage == 0) {
             g.drawImage(
@@ -144,7 +82,7 @@ public final class HUDPanel extends GamePanel {
                     0, 0, stageHud.getWidth(), stageHud.getHeight(), null);
         } else {
             g.drawImage(
-                    BufferedImageManager.substitutePurpleWithRed(stageHud,
+                    BufferedImageManager.cachedSubstitutePurpleWithRed(stageHud,
                             stageHud.getWidth() * STAGE_BAR_PAR.get(stage - 1)),
                     x, y,
                     x + widthHud, y + heightHud,
@@ -157,7 +95,7 @@ public final class HUDPanel extends GamePanel {
         g.setColor(Color.WHITE);
         g.setFont(retroFont.deriveFont(FONT_SIZE));
 
-        final int currentScore = Scores.getCurrentScore();
+        final int currentScore = this.frames.current().getScore();
 
         final String scoreText = "Score: " + currentScore;
         g.drawString(scoreText, 10, GAP_Y);
@@ -167,7 +105,7 @@ public final class HUDPanel extends GamePanel {
         g.setColor(Color.WHITE);
         g.setFont(retroFont.deriveFont(FONT_SIZE));
 
-        final int currentLives = LogicController.getLives() + 1;
+        final int currentLives = this.frames.current().getLives() + 1;
 
         final String scoreText = "UP: " + currentLives;
         g.drawString(scoreText, getWidth() - (getWidth() / LIVES_DIM), GAP_Y);
@@ -198,7 +136,7 @@ public final class HUDPanel extends GamePanel {
         final int height = fuelBarFull.getHeight() * Constants.FUELBAR_SCALE_FACTOR;
 
         // Calculates the amount of empty to draw over the full bar
-        final int fullWidth = (int) (fuelBar.getFuelLevel() / 100.0 * width);
+        final int fullWidth = (int) (this.frames.current().getFuelLevel() / 100.0 * width);
 
         // Coordinates of starting draw point
         final int x = (getWidth() - width) / 2;
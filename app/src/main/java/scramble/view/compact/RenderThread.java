@@ -0,0 +1,79 @@
+package scramble.view.compact;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import scramble.model.world.RenderSnapshot;
+
+/**
+ * The thread that draws the {@link GameCanvas}, apart from the EDT that runs
+ * the simulation. At every frame it takes the last {@link RenderSnapshot}
+ * published by the simulation, if there is a new one, and draws it: a slow
+ * frame never delays a tick and a slow tick never delays a frame, the frame
+ * just shows the same snapshot again, further from its previous update.
+ */
+public final class RenderThread {
+
+    private final GameCanvas canvas;
+    private final FrameSource frames;
+    private final long periodNanos;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Class constructor. The thread is created stopped.
+     *
+     * @param canvas   the canvas to draw
+     * @param frames   the snapshots published by the simulation
+     * @param periodMs the time between two frames, in milliseconds
+     */
+    public RenderThread(final GameCanvas canvas, final FrameSource frames, final int periodMs) {
+        this.canvas = canvas;
+        this.frames = frames;
+        this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMs);
+    }
+
+    /** Starts drawing frames. */
+    public void start() {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        this.thread = new Thread(this::run, "scramble-render");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /** Stops drawing frames, after the one being drawn. */
+    public void stop() {
+        this.running = false;
+        if (this.thread != null) {
+            LockSupport.unpark(this.thread);
+        }
+    }
+
+    /**
+     * Tells if the thread is drawing frames.
+     *
+     * @return true if it is running
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    private void run() {
+        long next = System.nanoTime();
+        while (this.running) {
+            this.frames.beginFrame();
+            this.canvas.render();
+            next += this.periodNanos;
+            final long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                // Late frames are not recovered, the next one starts from now
+                next = System.nanoTime();
+            }
+        }
+    }
+}
@@ -1,18 +1,17 @@
 package scramble.view.compact;
 
+import scramble.controller.loop.GameLoop;
+import scramble.controller.loop.TickPhase;
 import scramble.model.scores.Scores;
 import scramble.view.font.ScrambleFontUtil;
 
 import java.io.IOException;
 import java.util.logging.Logger;
 import javax.imageio.ImageIO;
-import javax.swing.Timer;
 import java.awt.Graphics;
 import java.awt.BorderLayout;
 import java.awt.Font;
 import java.awt.Color;
-import java.awt.event.ActionListener;
-import java.awt.event.ActionEvent;
 
 /**
  * The start menu with the game starts. Loopes through the Scoreboard as
@@ -26,9 +25,9 @@ public final class StartMenu extends GamePanel {
     private final transient Scores scores;
 
     private final Font retroFont;
-    private final Timer scoreSequenceTimer;
 
-    private int sequenceStep;
+    // Written by the game loop and read by the thread that draws
+    private volatile int sequenceStep;
 
     private static final class FixedConstants {
 
@@ -46,6 +45,7 @@ public final class StartMenu extends GamePanel {
         private static final float FONT_SIZE2 = 24f;
         private static final int TIMERS = 3000;
         private static final int OFFSET = 25;
+        private static final int STEPS = 3;
 
     }
 
@@ -59,16 +59,6 @@ public final class StartMenu extends GamePanel {
         retroFont = ScrambleFontUtil.loadFont(FixedConstants.FONT_SIZE2);
 
         sequenceStep = 0;
-        this.scoreSequenceTimer = new Timer(FixedConstants.TIMERS, new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                sequenceStep++;
-                if (sequenceStep > 2) {
-                    sequenceStep = 0;
-                }
-            }
-        });
-
     }
 
     /** {@inheritDoc} */
@@ -78,29 +68,20 @@ public final class StartMenu extends GamePanel {
         drawPanel(g);
     }
 
+    /** {@inheritDoc} */
     @Override
-    public void startTimer() {
-        scoreSequenceTimer.start();
-
-    }
-
-    @Override
-    public void stopTimer() {
-        scoreSequenceTimer.stop();
-
-    }
-
-    @Override
-    public void restartTimer() {
-        scoreSequenceTimer.restart();
-
+    public void attachTo(final GameLoop loop) {
+        this.subscribe(loop, TickPhase.MOVEMENT, FixedConstants.TIMERS,
+                () -> sequenceStep = (sequenceStep + 1) % FixedConstants.STEPS);
     }
 
     @Override
     protected void drawPanel(final Graphics g) {
         g.setFont(retroFont.deriveFont(FixedConstants.FONT_SIZE1));
+        // The whole frame shows the same step
+        final int step = sequenceStep;
 
-        if (sequenceStep == 0) {
+        if (step == 0) {
             g.setColor(Color.YELLOW);
             g.drawString("PLAY", getWidth() / 2 - FixedConstants.PLAY_WIDTH, getHeight() / 4);
 
@@ -115,7 +96,7 @@ public final class StartMenu extends GamePanel {
             g.setColor(Color.WHITE);
             g.drawString("KONAMI", getWidth() / 2 - FixedConstants.KONAMI_WIDTH,
                     getHeight() - (getHeight() / FixedConstants.KONAMI_HEIGHT));
-        } else if (sequenceStep == 1) {
+        } else if (step == 1) {
             g.setColor(Color.RED);
             final int offset = FixedConstants.OFFSET;
             int index = 1;
@@ -126,7 +107,7 @@ public final class StartMenu extends GamePanel {
                         getHeight() / 2 + index * offset);
                 index++;
             }
-        } else if (sequenceStep == 2) {
+        } else if (step == 2) {
             g.setColor(Color.YELLOW);
             g.drawString("- SCORE TABLE -", getWidth() / 2 - FixedConstants.SCORE_HEIGHT, getHeight() / 4);
             try {
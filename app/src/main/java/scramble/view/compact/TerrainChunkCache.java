@@ -0,0 +1,155 @@
+package scramble.view.compact;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.util.LandUtils;
+import scramble.model.world.TerrainSnapshot;
+import scramble.utility.Constants;
+
+/**
+ * Cache of the landscape already drawn, in chunks of {@link #CHUNK_COLUMNS}
+ * columns.
+ *
+ * <p>
+ * Every chunk is drawn tile by tile on an image compatible with the screen,
+ * once, and then the whole chunk is drawn with a single call at every frame.
+ * A column that enters the window is drawn alone on the image of its chunk;
+ * the whole chunk is drawn again only when one of its columns is replaced by a
+ * different instance, and it is dropped as soon as none of its columns is
+ * loaded anymore, unless it has the column right before the first loaded one:
+ * a camera drawn between two scrollings can still show a part of it. The
+ * columns are only looked at when the version of the
+ * {@link TerrainSnapshot} changes.
+ * </p>
+ */
+public final class TerrainChunkCache {
+
+    /** Number of columns drawn on the image of a chunk. */
+    public static final int CHUNK_COLUMNS = 16;
+
+    private static final int CHUNK_WIDTH = LandUtils.multiplyPixelPerSprite(CHUNK_COLUMNS);
+    private static final int CHUNK_HEIGHT = LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT);
+
+    private final Map<Integer, Chunk> chunks = new HashMap<>();
+    private long version = -1;
+    private int frame;
+
+    /**
+     * Draws the loaded columns, updating the chunks whose columns changed.
+     *
+     * @param g        the graphics to draw on
+     * @param snapshot the terrain to draw
+     */
+    public void draw(final Graphics2D g, final TerrainSnapshot snapshot) {
+        this.draw(g, snapshot, snapshot.getScrollX());
+    }
+
+    /**
+     * Draws the loaded columns from a camera other than the one of the
+     * snapshot, updating the chunks whose columns changed.
+     *
+     * @param g        the graphics to draw on
+     * @param snapshot the terrain to draw
+     * @param cameraX  the x coordinate of the map at the left border of the
+     *                 screen
+     */
+    public void draw(final Graphics2D g, final TerrainSnapshot snapshot, final int cameraX) {
+        if (snapshot.getVersion() != this.version) {
+            this.version = snapshot.getVersion();
+            this.update(snapshot);
+        }
+        for (final Map.Entry<Integer, Chunk> entry : this.chunks.entrySet()) {
+            final Chunk chunk = entry.getValue();
+            chunk.bake(g.getDeviceConfiguration());
+            g.drawImage(chunk.image, entry.getKey() * CHUNK_WIDTH - cameraX, 0, null);
+        }
+    }
+
+    /**
+     * Getter for the number of chunks in the cache.
+     *
+     * @return the number of chunks
+     */
+    public int size() {
+        return this.chunks.size();
+    }
+
+    private void update(final TerrainSnapshot snapshot) {
+        this.frame++;
+        for (final MapColumn column : snapshot.getColumns()) {
+            final Chunk chunk = this.chunks.computeIfAbsent(Math.floorDiv(column.getX(), CHUNK_WIDTH),
+                    index -> new Chunk());
+            chunk.frame = this.frame;
+            chunk.put(LandUtils.dividePixelPerSprite(Math.floorMod(column.getX(), CHUNK_WIDTH)), column);
+        }
+
+        final List<MapColumn> columns = snapshot.getColumns();
+        final int kept = columns.isEmpty() ? Integer.MIN_VALUE
+                : Math.floorDiv(columns.get(0).getX() - 1, CHUNK_WIDTH);
+        final Iterator<Map.Entry<Integer, Chunk>> iterator = this.chunks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Integer, Chunk> entry = iterator.next();
+            if (entry.getValue().frame != this.frame && entry.getKey() != kept) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Chunk {
+
+        private final MapColumn[] columns = new MapColumn[CHUNK_COLUMNS];
+        private BufferedImage image;
+        private final boolean[] pending = new boolean[CHUNK_COLUMNS];
+        private boolean dirty;
+        private boolean replaced;
+        private int frame;
+
+        private void put(final int slot, final MapColumn column) {
+            if (this.columns[slot] != column) {
+                this.replaced |= this.columns[slot] != null;
+                this.columns[slot] = column;
+                this.pending[slot] = true;
+                this.dirty = true;
+            }
+        }
+
+        private void bake(final GraphicsConfiguration configuration) {
+            if (!this.dirty) {
+                return;
+            }
+            if (this.image == null) {
+                this.image = configuration.createCompatibleImage(CHUNK_WIDTH, CHUNK_HEIGHT, Transparency.TRANSLUCENT);
+            }
+            final Graphics2D g = this.image.createGraphics();
+            if (this.replaced) {
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(0, 0, CHUNK_WIDTH, CHUNK_HEIGHT);
+                g.setComposite(AlphaComposite.SrcOver);
+            }
+            for (int slot = 0; slot < CHUNK_COLUMNS; slot++) {
+                final MapColumn column = this.columns[slot];
+                if (column != null && (this.replaced || this.pending[slot])) {
+                    this.pending[slot] = false;
+                    int tempY = 0;
+                    for (int i = 0; i < column.getTileCount(); i++) {
+                        g.drawImage(column.getTile(i), LandUtils.multiplyPixelPerSprite(slot), tempY,
+                                column.gettWidth(), column.getBIsHeight(), null);
+                        tempY += column.getBIsHeight();
+                    }
+                }
+            }
+            g.dispose();
+            this.dirty = false;
+            this.replaced = false;
+        }
+    }
+}
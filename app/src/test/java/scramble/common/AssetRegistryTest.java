@@ -0,0 +1,46 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.bullets.Bullet;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.util.AssetRegistry;
+import scramble.model.common.util.enums.Asset;
+
+class AssetRegistryTest {
+
+    @Test
+    void testEveryFrameIsLoaded() {
+        AssetRegistry.preload();
+        for (final Asset asset : Asset.values()) {
+            assertEquals(asset.getFrames(), AssetRegistry.getFrames(asset).size());
+        }
+    }
+
+    @Test
+    void testFramesAreDecodedOnce() {
+        assertSame(AssetRegistry.getFrames(Asset.ROCKET), AssetRegistry.getFrames(Asset.ROCKET));
+    }
+
+    @Test
+    void testFramesAreShared() {
+        final Bullet first = new Bullet(0, 0, BulletType.TYPE_HORIZONTAL);
+        final Bullet second = new Bullet(10, 10, BulletType.TYPE_HORIZONTAL);
+
+        assertSame(first.getSprite(), second.getSprite());
+    }
+
+    @Test
+    void testFramesAreImmutable() {
+        final List<BufferedImage> frames = AssetRegistry.getFrames(Asset.BOMB);
+
+        assertThrows(UnsupportedOperationException.class, () -> frames.remove(0));
+    }
+}
@@ -0,0 +1,109 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.util.BufferedImageManager;
+
+class BufferedImageManagerTest {
+
+    private static final int SIDE = 8;
+    private static final int HALF_TURN = 180;
+
+    @Test
+    void testCachedTransformsAreComputedOnce() {
+        final BufferedImage sprite = new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_INT_ARGB);
+
+        final BufferedImage rotated = BufferedImageManager.cachedRotation(sprite, HALF_TURN);
+        assertSame(rotated, BufferedImageManager.cachedRotation(sprite, HALF_TURN));
+        assertSame(BufferedImageManager.cachedColorClockwise(sprite, 0),
+                BufferedImageManager.cachedColorClockwise(sprite, 0));
+    }
+
+    @Test
+    void testCacheKeepsTransformsAndParametersApart() {
+        final BufferedImage sprite = new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_INT_ARGB);
+
+        assertNotSame(BufferedImageManager.cachedColorClockwise(sprite, 2),
+                BufferedImageManager.cachedColorCounterClockwise(sprite, 2));
+        assertNotSame(BufferedImageManager.cachedColorCounterClockwise(sprite, 0),
+                BufferedImageManager.cachedColorCounterClockwise(sprite, 2));
+        assertNotSame(BufferedImageManager.cachedRotation(sprite, HALF_TURN),
+                BufferedImageManager.cachedRotation(new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_INT_ARGB),
+                        HALF_TURN));
+    }
+
+    @Test
+    void testCachedTransformMatchesTheUncachedOne() {
+        final BufferedImage sprite = new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_INT_ARGB);
+        sprite.setRGB(1, 2, 0xFF102030);
+
+        final BufferedImage expected = BufferedImageManager.changeColorCounterClockwise(sprite, 2);
+        final BufferedImage cached = BufferedImageManager.cachedColorCounterClockwise(sprite, 2);
+        for (int y = 0; y < SIDE; y++) {
+            for (int x = 0; x < SIDE; x++) {
+                assertEquals(expected.getRGB(x, y), cached.getRGB(x, y));
+            }
+        }
+    }
+
+    @Test
+    void testColorCyclesSwapTheComponents() {
+        final BufferedImage sprite = new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_3BYTE_BGR);
+        sprite.setRGB(0, 0, 0xFF102030);
+
+        assertEquals(0xFF301020, BufferedImageManager.changeColorClockwise(sprite, 0).getRGB(0, 0));
+        assertEquals(0xFF203012, BufferedImageManager.changeColorCounterClockwise(sprite, 2).getRGB(0, 0));
+        assertEquals(BufferedImage.TYPE_3BYTE_BGR, BufferedImageManager.changeColorClockwise(sprite, 0).getType());
+    }
+
+    @Test
+    void testPurpleIsSubstitutedOnlyInTheGivenWidth() {
+        final BufferedImage hud = new BufferedImage(SIDE, 1, BufferedImage.TYPE_4BYTE_ABGR);
+        hud.setRGB(0, 0, 0xFF8000F0);
+        hud.setRGB(SIDE - 1, 0, 0xFF8000F0);
+        hud.setRGB(1, 0, 0xFF102030);
+
+        final BufferedImage substituted = BufferedImageManager.substitutePurpleWithRed(hud, SIDE / 2f);
+
+        assertEquals(0xFF780000, substituted.getRGB(0, 0));
+        assertEquals(0xFF102030, substituted.getRGB(1, 0));
+        assertEquals(0xFF8000F0, substituted.getRGB(SIDE - 1, 0));
+    }
+
+    @Test
+    void testPackedImagesAreSubstitutedAsTheOthers() {
+        final BufferedImage packed = new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_INT_ARGB);
+        final BufferedImage bytes = new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_4BYTE_ABGR);
+        for (int y = 0; y < SIDE; y++) {
+            for (int x = 0; x < SIDE; x++) {
+                final int argb = (x + y) % 2 == 0 ? 0xFF8000F0 : 0x80102030 + x;
+                packed.setRGB(x, y, argb);
+                bytes.setRGB(x, y, argb);
+            }
+        }
+
+        final BufferedImage fromPacked = BufferedImageManager.substitutePurpleWithRed(packed, SIDE / 2f);
+        final BufferedImage fromBytes = BufferedImageManager.substitutePurpleWithRed(bytes, SIDE / 2f);
+        assertEquals(BufferedImage.TYPE_INT_ARGB, fromPacked.getType());
+        for (int y = 0; y < SIDE; y++) {
+            for (int x = 0; x < SIDE; x++) {
+                assertEquals(fromBytes.getRGB(x, y), fromPacked.getRGB(x, y));
+            }
+        }
+    }
+
+    @Test
+    void testStageBoardIsSubstitutedOncePerWidth() {
+        final BufferedImage hud = new BufferedImage(SIDE, 1, BufferedImage.TYPE_4BYTE_ABGR);
+
+        final BufferedImage half = BufferedImageManager.cachedSubstitutePurpleWithRed(hud, SIDE / 2f);
+        assertSame(half, BufferedImageManager.cachedSubstitutePurpleWithRed(hud, SIDE / 2f));
+        assertNotSame(half, BufferedImageManager.cachedSubstitutePurpleWithRed(hud, SIDE / 4f));
+    }
+}
@@ -9,9 +9,7 @@ import scramble.model.bullets.Bullet;
 import scramble.model.bullets.BulletType;
 import scramble.model.common.impl.GameElementImpl;
 import scramble.model.common.impl.PairImpl;
-import scramble.model.enemy.Rocket;
 import scramble.model.spaceship.SpaceShip;
-import scramble.model.tank.FuelTank;
 
 import java.awt.image.BufferedImage;
 
@@ -66,13 +64,28 @@ class GameElementImplTest {
 
         final GameElementImpl spaceShip = new SpaceShip(0, 0, 100, 100);
         final GameElementImpl bullet = new Bullet(0, 0, BulletType.TYPE_BOMB);
-        final GameElementImpl fuelTank = new FuelTank(0, 0, 100, 100);
-        final GameElementImpl rocket = new Rocket(0, 0, 100, 100);
         assertNotNull(spaceShip.getSprite());
         assertNotNull(bullet.getSprite());
-        assertNotNull(fuelTank.getSprite());
-        assertNotNull(rocket.getSprite());
 
     }
 
+    @Test
+    void testMoveByKeepsPositionAndHitBoxTogether() {
+        final GameElementImpl gameElement = new GameElementImpl(10, 20, 30, 40) {
+            @Override
+            public BufferedImage getSprite() {
+                return null;
+            }
+        };
+
+        gameElement.moveBy(5, -5);
+        gameElement.moveBy(5, -5);
+
+        assertEquals(20, gameElement.x());
+        assertEquals(10, gameElement.y());
+        assertEquals(gameElement.x(), gameElement.getPosition().getFirstElement());
+        assertEquals(gameElement.x(), gameElement.getHitBox().x);
+        assertEquals(gameElement.y(), gameElement.getHitBox().y);
+    }
+
 }
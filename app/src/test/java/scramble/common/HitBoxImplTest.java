@@ -1,6 +1,7 @@
 package scramble.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -60,4 +61,28 @@ class HitBoxImplTest {
         final Rectangle expected = new Rectangle(x, y, width, height);
         assertEquals(expected, result);
     }
+
+    @Test
+    void testIntersectsMatchesRectangle() {
+        final HitBoxImpl hitBox = new HitBoxImpl(10, 20, 30, 40);
+        final Rectangle rectangle = hitBox.getHitBox();
+
+        for (int x = 0; x < 50; x += 5) {
+            for (int y = 10; y < 70; y += 5) {
+                assertEquals(rectangle.intersects(new Rectangle(x, y, 10, 10)), hitBox.intersects(x, y, 10, 10));
+            }
+        }
+        assertFalse(hitBox.intersects(20, 30, 0, 10));
+    }
+
+    @Test
+    void testPrimitiveAccessors() {
+        final HitBoxImpl hitBox = new HitBoxImpl(10, 20, 30, 40);
+        hitBox.updateHitBox(50, 60);
+
+        assertEquals(50, hitBox.x());
+        assertEquals(60, hitBox.y());
+        assertEquals(30, hitBox.width());
+        assertEquals(40, hitBox.height());
+    }
 }
@@ -0,0 +1,46 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.ObjectPool;
+import scramble.model.common.impl.ObjectPoolImpl;
+
+class ObjectPoolTest {
+
+    @Test
+    void testReleasedInstanceIsReused() {
+        final ObjectPool<StringBuilder> pool = new ObjectPoolImpl<>(StringBuilder::new, 2);
+
+        final StringBuilder first = pool.acquire();
+        pool.release(first);
+
+        assertSame(first, pool.acquire());
+        assertEquals(1, pool.getMisses());
+        assertEquals(1, pool.getHits());
+    }
+
+    @Test
+    void testPoolKeepsNoMoreThanItsCapacity() {
+        final ObjectPool<StringBuilder> pool = new ObjectPoolImpl<>(StringBuilder::new, 1);
+        final StringBuilder first = pool.acquire();
+        final StringBuilder second = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(1, pool.size());
+        assertSame(first, pool.acquire());
+        assertNotSame(second, pool.acquire());
+        assertEquals(3, pool.getMisses());
+    }
+
+    @Test
+    void testPoolMustHoldSomething() {
+        assertThrows(IllegalArgumentException.class, () -> new ObjectPoolImpl<>(Object::new, 0));
+    }
+}
@@ -0,0 +1,93 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.SpatialHash;
+import scramble.model.common.impl.SpatialHashImpl;
+
+class SpatialHashTest {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 640;
+    private static final int CELL = 64;
+
+    private SpatialHash grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashImpl(WIDTH, HEIGHT, CELL);
+    }
+
+    @Test
+    void testBoxOnManyCellsIsFound() {
+        // Given a box and a query that both span four cells
+        final int target = grid.insert(CELL - 10, CELL - 10, 20, 20);
+
+        assertEquals(target, grid.firstCollision(CELL - 5, CELL - 5, 10, 10));
+    }
+
+    @Test
+    void testFirstCollisionFollowsInsertionOrder() {
+        final int first = grid.insert(CELL * 2, 0, 30, 30);
+        final int second = grid.insert(CELL * 2 - 20, 0, 30, 30);
+
+        assertEquals(first, grid.firstCollision(CELL * 2, 0, 5, 5));
+        assertEquals(second, grid.firstCollision(CELL * 2 - 20, 0, 5, 5));
+    }
+
+    @Test
+    void testFirstCollisionIsFoundInAnyCell() {
+        // The second box is in the first cell of the query, the first one only
+        // in the last cell
+        grid.insert(CELL * 3 + 10, CELL * 3 + 10, 10, 10);
+        final int second = grid.insert(CELL - 20, CELL - 20, 10, 10);
+        final int first = 0;
+
+        assertEquals(first, grid.firstCollision(CELL - 20, CELL - 20, CELL * 3, CELL * 3));
+        assertEquals(second, grid.firstCollision(CELL - 20, CELL - 20, CELL, CELL));
+    }
+
+    @Test
+    void testCandidatesAreCheckedAgainstTheBox() {
+        // Same cell, no overlap
+        grid.insert(0, 0, 10, 10);
+
+        assertEquals(-1, grid.firstCollision(20, 20, 10, 10));
+        assertEquals(-1, grid.firstCollision(0, 0, 0, 10));
+    }
+
+    @Test
+    void testBoxesOutOfTheGridAreClamped() {
+        final int above = grid.insert(100, -50, 20, 20);
+        final int right = grid.insert(WIDTH + 30, 100, 20, 20);
+
+        assertEquals(above, grid.firstCollision(110, -40, 5, 5));
+        assertEquals(right, grid.firstCollision(WIDTH + 35, 105, 5, 5));
+    }
+
+    @Test
+    void testGridFollowsItsOrigin() {
+        // Given a grid moved far from the boxes it covered before
+        final int cameraX = WIDTH * 3;
+        grid.insert(10, 10, 20, 20);
+        grid.clear(cameraX, 0);
+        final int target = grid.insert(cameraX + CELL * 5, 10, 20, 20);
+
+        // Then only the boxes around the new origin are found
+        assertEquals(target, grid.firstCollision(cameraX + CELL * 5 + 5, 15, 5, 5));
+        assertEquals(-1, grid.firstCollision(15, 15, 5, 5));
+    }
+
+    @Test
+    void testClearRemovesAllBoxes() {
+        grid.insert(0, 0, 10, 10);
+        grid.clear();
+
+        assertEquals(0, grid.size());
+        assertEquals(-1, grid.firstCollision(0, 0, 10, 10));
+        assertEquals(0, grid.insert(0, 0, 10, 10));
+    }
+}
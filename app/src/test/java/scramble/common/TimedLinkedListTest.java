@@ -0,0 +1,87 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.TimedLinkedList;
+import scramble.model.common.impl.TimedLinkedListImpl;
+
+class TimedLinkedListTest {
+
+    private static final int TICK_MS = 10;
+
+    @Test
+    void testElementsExpireAfterTheirTicks() {
+        final TimedLinkedList<String> list = new TimedLinkedListImpl<>(TICK_MS);
+        list.addElement("a", 2 * TICK_MS);
+        list.addElement("b", 3 * TICK_MS);
+
+        list.advance();
+        assertEquals(List.of("a", "b"), list.getList());
+        list.advance();
+        assertEquals(List.of("b"), list.getList());
+        list.advance();
+        assertTrue(list.getList().isEmpty());
+    }
+
+    @Test
+    void testElementsDoNotExpireWithoutTicks() {
+        final TimedLinkedList<String> list = new TimedLinkedListImpl<>(TICK_MS);
+        list.addAll(List.of("a", "b"), TICK_MS);
+
+        assertEquals(List.of("a", "b"), list.getList());
+    }
+
+    @Test
+    void testTimesLongerThanTheRing() {
+        final TimedLinkedList<Integer> list = new TimedLinkedListImpl<>(TICK_MS);
+        final int ticks = 1000;
+        list.addElement(1, TICK_MS);
+        list.addElement(2, ticks * TICK_MS);
+        list.addElement(3, 2 * TICK_MS);
+
+        list.advance();
+        assertEquals(List.of(2, 3), list.getList());
+        for (int i = 1; i < ticks - 1; i++) {
+            list.advance();
+        }
+        assertEquals(List.of(2), list.getList());
+        list.advance();
+        assertTrue(list.getList().isEmpty());
+    }
+
+    @Test
+    void testExpiredElementsAreHandedOver() {
+        final TimedLinkedList<String> list = new TimedLinkedListImpl<>(TICK_MS);
+        final List<String> expired = new ArrayList<>();
+        list.addElement("a", TICK_MS);
+        list.addElement("b", 2 * TICK_MS);
+
+        list.advance(expired::add);
+        // The node of "a" is reused
+        list.addElement("c", TICK_MS);
+        list.advance(expired::add);
+
+        assertEquals(List.of("a", "b", "c"), expired);
+        assertTrue(list.getList().isEmpty());
+    }
+
+    @Test
+    void testStreamIsASnapshot() {
+        final TimedLinkedList<String> list = new TimedLinkedListImpl<>(TICK_MS);
+        list.addElement("a", TICK_MS);
+        final List<String> before = list.stream().toList();
+
+        list.advance();
+
+        assertEquals(List.of("a"), before);
+        assertEquals(0, list.stream().count());
+        assertThrows(UnsupportedOperationException.class, () -> before.add("b"));
+    }
+}
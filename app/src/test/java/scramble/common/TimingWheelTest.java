@@ -0,0 +1,86 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.TimingWheel;
+import scramble.model.common.impl.TimingWheelImpl;
+
+class TimingWheelTest {
+
+    private static final int SLOTS = 8;
+
+    @Test
+    void testTaskRunsOnItsTick() {
+        final TimingWheel wheel = new TimingWheelImpl(SLOTS);
+        final List<Integer> ran = new ArrayList<>();
+        wheel.schedule(3, () -> ran.add(3));
+
+        wheel.advance();
+        wheel.advance();
+        assertEquals(List.of(), ran);
+
+        wheel.advance();
+        assertEquals(List.of(3), ran);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testDelaysLongerThanTheWheel() {
+        final TimingWheel wheel = new TimingWheelImpl(SLOTS);
+        final List<Integer> ran = new ArrayList<>();
+        // Same slot, different turns of the wheel
+        wheel.schedule(SLOTS * 2 + 1, () -> ran.add(2));
+        wheel.schedule(1, () -> ran.add(0));
+        wheel.schedule(SLOTS + 1, () -> ran.add(1));
+
+        for (int i = 0; i < SLOTS * 2 + 1; i++) {
+            wheel.advance();
+        }
+
+        assertEquals(List.of(0, 1, 2), ran);
+    }
+
+    @Test
+    void testSameTickKeepsSchedulingOrder() {
+        final TimingWheel wheel = new TimingWheelImpl(SLOTS);
+        final List<Integer> ran = new ArrayList<>();
+        wheel.schedule(2, () -> ran.add(1));
+        wheel.schedule(2, () -> ran.add(2));
+
+        wheel.advance();
+        wheel.advance();
+
+        assertEquals(List.of(1, 2), ran);
+    }
+
+    @Test
+    void testTaskCanScheduleItsSlot() {
+        final TimingWheel wheel = new TimingWheelImpl(SLOTS);
+        final List<Integer> ran = new ArrayList<>();
+        wheel.schedule(1, () -> wheel.schedule(SLOTS, () -> ran.add(1)));
+
+        for (int i = 0; i < SLOTS + 1; i++) {
+            wheel.advance();
+        }
+
+        assertEquals(List.of(1), ran);
+    }
+
+    @Test
+    void testClearDropsTasks() {
+        final TimingWheel wheel = new TimingWheelImpl(SLOTS);
+        final List<Integer> ran = new ArrayList<>();
+        wheel.schedule(1, () -> ran.add(1));
+        wheel.clear();
+        wheel.advance();
+
+        assertEquals(List.of(), ran);
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(0, () -> ran.add(0)));
+    }
+}
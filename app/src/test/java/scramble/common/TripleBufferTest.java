@@ -0,0 +1,70 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.TripleBuffer;
+import scramble.model.common.impl.TripleBufferImpl;
+
+class TripleBufferTest {
+
+    private static final int PUBLICATIONS = 100_000;
+
+    @Test
+    void testReaderGetsTheLastPublication() {
+        final TripleBuffer<AtomicLong> buffer = new TripleBufferImpl<>(AtomicLong::new);
+        assertFalse(buffer.acquire());
+
+        buffer.back().set(1);
+        buffer.publish();
+        buffer.back().set(2);
+        buffer.publish();
+
+        assertTrue(buffer.acquire());
+        assertEquals(2, buffer.front().get());
+        // Nothing new, the front does not change
+        assertFalse(buffer.acquire());
+        assertEquals(2, buffer.front().get());
+    }
+
+    @Test
+    void testWriterAndReaderNeverShareAnInstance() {
+        final TripleBuffer<AtomicLong> buffer = new TripleBufferImpl<>(AtomicLong::new);
+        buffer.back().set(1);
+        buffer.publish();
+        buffer.acquire();
+
+        assertNotSame(buffer.front(), buffer.back());
+        buffer.back().set(2);
+        assertEquals(1, buffer.front().get());
+    }
+
+    @Test
+    void testPublicationsReachAnotherThreadInOrder() throws InterruptedException {
+        final TripleBuffer<AtomicLong> buffer = new TripleBufferImpl<>(AtomicLong::new);
+        final Thread writer = new Thread(() -> {
+            for (int i = 1; i <= PUBLICATIONS; i++) {
+                buffer.back().set(i);
+                buffer.publish();
+            }
+        });
+        writer.start();
+
+        long last = 0;
+        while (last < PUBLICATIONS) {
+            if (buffer.acquire()) {
+                // A publication can be skipped, never seen twice or out of order
+                assertTrue(buffer.front().get() > last);
+                last = buffer.front().get();
+            }
+        }
+        writer.join();
+        assertEquals(PUBLICATIONS, last);
+    }
+}
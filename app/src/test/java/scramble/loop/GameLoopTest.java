@@ -0,0 +1,82 @@
+package scramble.loop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import scramble.controller.loop.GameLoop;
+import scramble.controller.loop.Subscription;
+import scramble.controller.loop.TickPhase;
+import scramble.utility.Constants;
+
+class GameLoopTest {
+
+    private static final int TICKS = 10;
+
+    @Test
+    void testPhasesRunInOrder() {
+        final GameLoop loop = new GameLoop();
+        final List<String> calls = new ArrayList<>();
+        loop.subscribe(TickPhase.COLLISION, Constants.GAME_TICK_MS, () -> calls.add("collision")).start();
+        loop.subscribe(TickPhase.MOVEMENT, Constants.GAME_TICK_MS, () -> calls.add("movement")).start();
+        loop.subscribe(TickPhase.INPUT, Constants.GAME_TICK_MS, () -> calls.add("input")).start();
+        loop.enqueue(() -> calls.add("command"));
+
+        loop.tick();
+
+        assertEquals(List.of("command", "input", "movement", "collision"), calls);
+    }
+
+    @Test
+    void testSubscriptionPeriod() {
+        final GameLoop loop = new GameLoop();
+        final int[] counter = new int[1];
+        final Subscription subscription = loop.subscribe(TickPhase.MOVEMENT, Constants.GAME_TICK_MS * 2,
+                () -> counter[0]++);
+
+        loop.tick();
+        assertEquals(0, counter[0]);
+
+        subscription.start();
+        for (int i = 0; i < TICKS; i++) {
+            loop.tick();
+        }
+        assertEquals(TICKS / 2, counter[0]);
+
+        subscription.stop();
+        loop.tick();
+        loop.tick();
+        assertEquals(TICKS / 2, counter[0]);
+    }
+
+    @Test
+    void testScheduledTaskRunsOnce() {
+        final GameLoop loop = new GameLoop();
+        final int[] counter = new int[1];
+        final Subscription subscription = loop.schedule(TickPhase.SCORING, Constants.GAME_TICK_MS * 3,
+                () -> counter[0]++);
+
+        for (int i = 0; i < TICKS; i++) {
+            loop.tick();
+        }
+        assertEquals(1, counter[0]);
+        assertFalse(subscription.isActive());
+        assertEquals(TICKS, loop.getTickCount());
+    }
+
+    @Test
+    void testRenderIsNotPartOfTheTick() {
+        final GameLoop loop = new GameLoop();
+        final int[] counter = new int[1];
+        loop.subscribe(TickPhase.RENDER, 0, () -> counter[0]++).start();
+
+        loop.tick();
+        assertEquals(0, counter[0]);
+        loop.render();
+        assertEquals(1, counter[0]);
+    }
+}
@@ -3,6 +3,7 @@ package scramble.map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +12,7 @@ import java.awt.image.BufferedImage;
 import scramble.model.map.impl.MapColumnImpl;
 import scramble.model.map.impl.MapElement;
 import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.TilePalette;
 import scramble.model.map.util.enums.LandBehaviour;
 import scramble.model.map.util.enums.TerrainType;
 
@@ -97,4 +99,62 @@ class MapColumnTest {
         assertEquals(LandBehaviour.FLAT, mapColumn.getFloorBehaviour());
     }
 
+    @Test
+    void testColumnsShareTheTilesOfThePalette() {
+        final MapElement ceiling = new MapElement(0, 40, 10, 10, new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB),
+                TerrainType.BRICK_COLUMN, LandBehaviour.FLAT);
+        final MapElement floor = new MapElement(0, 80, 10, 10, new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB),
+                TerrainType.BRICK_COLUMN, LandBehaviour.FLAT);
+
+        final MapColumnImpl first = new MapColumnImpl(ceiling, floor, 0, TerrainType.BRICK_COLUMN);
+        final int tiles = TilePalette.size();
+        final MapColumnImpl second = new MapColumnImpl(ceiling, floor, 0, TerrainType.BRICK_COLUMN);
+
+        // Same pixels, same tiles: nothing new in the palette
+        assertEquals(tiles, TilePalette.size());
+        assertEquals(first.getBIs().size(), first.getTileCount());
+        for (int i = 0; i < first.getTileCount(); i++) {
+            assertSame(first.getTile(i), second.getTile(i));
+        }
+    }
+
+
+    @Test
+    void testTransparentTilesAreAsLargeAsASprite() {
+        final int ceilingRow = 3;
+        final int floorRow = 6;
+        final MapElement ceiling = new MapElement(0, LandUtils.multiplyPixelPerSprite(ceilingRow), 10, 10,
+                new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB), TerrainType.GREENLAND, LandBehaviour.FLAT);
+        final MapElement floor = new MapElement(0, LandUtils.multiplyPixelPerSprite(floorRow), 10, 10,
+                new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB), TerrainType.GREENLAND, LandBehaviour.FLAT);
+
+        final MapColumnImpl column = new MapColumnImpl(ceiling, floor, 0, TerrainType.GREENLAND);
+
+        // The tiles between the ceiling and the floor are transparent
+        final BufferedImage transparent = column.getBIs().get(ceilingRow + 1);
+        assertEquals(LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, transparent.getWidth());
+        assertEquals(LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, transparent.getHeight());
+        assertEquals(0, transparent.getRGB(0, 0));
+    }
+
+    @Test
+    void testBrickFillersOnlyKeepATile() {
+        final int ceilingRow = 3;
+        final int floorRow = 6;
+        final MapElement ceiling = new MapElement(0, LandUtils.multiplyPixelPerSprite(ceilingRow), 10, 10,
+                new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB), TerrainType.BRICK_COLUMN, LandBehaviour.FLAT);
+        final MapElement floor = new MapElement(0, LandUtils.multiplyPixelPerSprite(floorRow), 10, 10,
+                new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB), TerrainType.BRICK_COLUMN, LandBehaviour.FLAT);
+
+        final MapColumnImpl column = new MapColumnImpl(ceiling, floor, 0, TerrainType.BRICK_COLUMN);
+
+        // The span above the ceiling keeps its bounds, not an image as large
+        final MapElement filler = column.getCeilingElements().get(1);
+        assertEquals(0, filler.getY());
+        assertEquals(LandUtils.multiplyPixelPerSprite(ceilingRow), filler.getHeight());
+        assertEquals(LandBehaviour.EMPTY, filler.getBehaviour());
+        assertEquals(LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, filler.getSprite().getHeight());
+        assertEquals(LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
+                column.getFloorElements().get(1).getSprite().getHeight());
+    }
 }
@@ -0,0 +1,159 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.MapController;
+import scramble.model.common.api.Pair;
+import scramble.model.common.impl.PairImpl;
+import scramble.model.common.impl.RandomServiceImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.MapStageFactoryImpl;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.LandsDataLoader;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.elaborator.StageGenerator;
+import scramble.model.map.util.raw.RawData;
+import scramble.model.world.Landscape;
+import scramble.utility.Constants;
+
+class MapControllerTest {
+
+    private static final long SEED = 42;
+
+    @Test
+    void testSkippedStageEndsWhereTheGeneratedOneEnds() {
+        final RawData stage = LandsDataLoader.getStage1Data();
+        final StageGenerator skipped = new StageGenerator(new PairImpl<>(MapStageFactoryImpl.STARTER_CEILING_HEIGHT,
+                MapStageFactoryImpl.STARTER_FLOOR_HEIGHT));
+        final StageGenerator generated = new StageGenerator(new PairImpl<>(
+                MapStageFactoryImpl.STARTER_CEILING_HEIGHT, MapStageFactoryImpl.STARTER_FLOOR_HEIGHT));
+
+        final int columns = skipped.skipStage(stage, Constants.SPRITE_PER_STAGE_WIDTH);
+
+        assertEquals(generated.convertDataToMapStage(stage, Constants.SPRITE_PER_STAGE_WIDTH).size(), columns);
+        assertEquals(generated.getCurrentHeights().getFirstElement(), skipped.getCurrentHeights().getFirstElement());
+        assertEquals(generated.getCurrentHeights().getSecondElement(), skipped.getCurrentHeights().getSecondElement());
+    }
+
+    @Test
+    void testSameSeedGeneratesTheSameStage() {
+        final RawData stage = LandsDataLoader.getStage1Data();
+        final List<MapColumn> first = new StageGenerator(new PairImpl<>(MapStageFactoryImpl.STARTER_CEILING_HEIGHT,
+                MapStageFactoryImpl.STARTER_FLOOR_HEIGHT), SEED)
+                .convertDataToMapStage(stage, Constants.SPRITE_PER_STAGE_WIDTH);
+        final List<MapColumn> second = new StageGenerator(new PairImpl<>(MapStageFactoryImpl.STARTER_CEILING_HEIGHT,
+                MapStageFactoryImpl.STARTER_FLOOR_HEIGHT), SEED)
+                .convertDataToMapStage(stage, Constants.SPRITE_PER_STAGE_WIDTH);
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            for (int tile = 0; tile < first.get(i).getTileCount(); tile++) {
+                assertSame(first.get(i).getTile(tile), second.get(i).getTile(tile));
+            }
+        }
+    }
+
+    @Test
+    void testEvictedStageIsGeneratedAgainIdentical() {
+        final MapController controller = new MapController();
+        final int lastStageX = controller.getStageStartingX().get(Constants.MAX_STAGES)
+                + Constants.WINDOW_WIDTH / 2;
+
+        final List<MapColumn> before = columns(controller, 0);
+        // Moving to the last stage drops the first one
+        controller.resetToX(lastStageX);
+        columns(controller, LandUtils.dividePixelPerSprite(lastStageX));
+        controller.resetToX(0);
+        final List<MapColumn> after = columns(controller, 0);
+
+        assertNotSame(before.get(0), after.get(0));
+        assertEquals(before.size(), after.size());
+        for (int i = 0; i < before.size(); i++) {
+            assertEquals(LandUtils.multiplyPixelPerSprite(i), after.get(i).getX());
+            assertEquals(before.get(i).getFloorPosition().getSecondElement(),
+                    after.get(i).getFloorPosition().getSecondElement());
+            for (int tile = 0; tile < before.get(i).getTileCount(); tile++) {
+                assertSame(before.get(i).getTile(tile), after.get(i).getTile(tile));
+            }
+        }
+    }
+
+    @Test
+    void testControllersBuiltTogetherKeepTheirOwnSpawns() {
+        final MapController alone = new MapController(new RandomServiceImpl(SEED));
+        final CompletableFuture<MapController> other = CompletableFuture
+                .supplyAsync(() -> new MapController(new RandomServiceImpl(SEED + 1)));
+        final MapController together = new MapController(new RandomServiceImpl(SEED));
+        other.join();
+
+        assertEquals(alone.getStageStartingX(), together.getStageStartingX());
+        assertEquals(xs(alone.getFlatFloorPositions()), xs(together.getFlatFloorPositions()));
+        assertEquals(xs(alone.getBrickFloorPosition()), xs(together.getBrickFloorPosition()));
+        assertEquals(alone.getEndOfMapX(), together.getEndOfMapX());
+    }
+
+    @Test
+    void testSpawnPositionsMatchTheGeneratedColumns() {
+        final MapController controller = new MapController(new RandomServiceImpl(SEED));
+        final List<Pair<Integer, Integer>> flats = new ArrayList<>();
+        final List<Pair<Integer, Integer>> bricks = new ArrayList<>();
+        final int prestage = controller.getStageStartingX().get(1) + Constants.WINDOW_WIDTH / 2;
+
+        for (int i = 0; i < controller.getMapSize(); i++) {
+            final MapColumn column = controller.getColumn(i);
+            if (column.getFloorBehaviour() == LandBehaviour.FLAT && column.getX() >= prestage) {
+                flats.add(column.getFloorPosition());
+            }
+            if (column.getFloorBehaviour() == LandBehaviour.BRICK) {
+                bricks.add(column.getFloorPosition());
+            }
+        }
+
+        assertFalse(flats.isEmpty());
+        assertFalse(bricks.isEmpty());
+        assertEquals(xs(flats), xs(controller.getFlatFloorPositions()));
+        assertEquals(xs(bricks), xs(controller.getBrickFloorPosition()));
+    }
+
+    @Test
+    void testTerrainOfAStageIsIndexedWhenItIsGenerated() {
+        final MapController controller = new MapController(new RandomServiceImpl(SEED));
+        final int lastStageX = controller.getStageStartingX().get(Constants.MAX_STAGES)
+                + Constants.WINDOW_WIDTH / 2;
+
+        // The last stage is not generated until it is reached
+        assertFalse(controller.getTerrainIndex().hitsTerrain(lastStageX, 0, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
+                Constants.WINDOW_HEIGHT));
+        controller.resetToX(lastStageX);
+        controller.getColumn(LandUtils.dividePixelPerSprite(lastStageX));
+        assertTrue(controller.getTerrainIndex().hitsTerrain(lastStageX, 0, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
+                Constants.WINDOW_HEIGHT));
+    }
+
+    private static List<Integer> xs(final List<Pair<Integer, Integer>> positions) {
+        final List<Integer> xs = new ArrayList<>();
+        for (final Pair<Integer, Integer> position : positions) {
+            xs.add(position.getFirstElement());
+            xs.add(position.getSecondElement());
+        }
+        return xs;
+    }
+
+    private static List<MapColumn> columns(final MapController controller, final int first) {
+        final List<MapColumn> columns = new ArrayList<>();
+        for (int i = first; i < first + Landscape.TOTAL_COLUMNS_LOADED; i++) {
+            columns.add(controller.getColumn(i));
+        }
+        return columns;
+    }
+}
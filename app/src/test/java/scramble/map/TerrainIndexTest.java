@@ -0,0 +1,57 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.api.TerrainIndex;
+import scramble.model.map.impl.MapColumnImpl;
+import scramble.model.map.impl.MapElement;
+import scramble.model.map.impl.TerrainIndexImpl;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.enums.TerrainType;
+
+class TerrainIndexTest {
+
+    private static final int SIDE = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+    private static final int CEILING_Y = 2 * SIDE;
+    private static final int FLOOR_Y = 20 * SIDE;
+
+    private static MapColumn column(final int index) {
+        final BufferedImage image = new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_INT_ARGB);
+        final MapElement ceiling = new MapElement(0, CEILING_Y, SIDE, SIDE, image, TerrainType.GREENLAND,
+                LandBehaviour.FLAT);
+        final MapElement floor = new MapElement(0, FLOOR_Y, SIDE, SIDE, image, TerrainType.GREENLAND,
+                LandBehaviour.FLAT);
+        final MapColumn column = new MapColumnImpl(ceiling, floor, 0, TerrainType.GREENLAND);
+        column.updateX(index * SIDE);
+        return column;
+    }
+
+    @Test
+    void testFloorAndCeilingSpans() {
+        final TerrainIndex index = new TerrainIndexImpl(List.of(column(0), column(1), column(2)));
+
+        assertTrue(index.hitsFloor(SIDE, FLOOR_Y, 1, 1));
+        assertFalse(index.hitsCeiling(SIDE, FLOOR_Y, 1, 1));
+        assertTrue(index.hitsCeiling(SIDE, CEILING_Y + SIDE - 1, 1, 1));
+        assertFalse(index.hitsTerrain(SIDE, CEILING_Y + SIDE, SIDE, FLOOR_Y - CEILING_Y - SIDE));
+    }
+
+    @Test
+    void testTouchingIsNotColliding() {
+        final TerrainIndex index = new TerrainIndexImpl(List.of(column(0)));
+
+        assertFalse(index.hitsFloor(0, FLOOR_Y - SIDE, SIDE, SIDE));
+        assertTrue(index.hitsFloor(0, FLOOR_Y - SIDE, SIDE, SIDE + 1));
+        assertFalse(index.hitsFloor(SIDE, FLOOR_Y, SIDE, SIDE));
+        assertTrue(index.hitsFloor(SIDE - 1, FLOOR_Y, SIDE, SIDE));
+        assertFalse(index.hitsFloor(-SIDE, FLOOR_Y, SIDE, SIDE));
+    }
+}
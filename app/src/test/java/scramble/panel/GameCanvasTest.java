@@ -0,0 +1,61 @@
+package scramble.panel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JLayeredPane;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.loop.GameLoop;
+import scramble.view.compact.GameCanvas;
+import scramble.view.compact.GamePanel;
+
+class GameCanvasTest {
+
+    private static final int SIZE = 10;
+
+    @Test
+    void testLayersAreDrawnBottomToTop() {
+        final JLayeredPane layers = new JLayeredPane();
+        layers.add(new SquarePanel(Color.RED, SIZE), JLayeredPane.PALETTE_LAYER);
+        layers.add(new SquarePanel(Color.BLUE, SIZE / 2), JLayeredPane.MODAL_LAYER);
+        layers.add(new SquarePanel(Color.GREEN, SIZE), JLayeredPane.DEFAULT_LAYER);
+
+        final BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+        final Graphics g = image.getGraphics();
+        new GameCanvas(layers).drawLayers(g);
+        g.dispose();
+
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(0, 0));
+        assertEquals(Color.RED.getRGB(), image.getRGB(SIZE - 1, SIZE - 1));
+    }
+
+    private static final class SquarePanel extends GamePanel {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Color color;
+        private final int side;
+
+        SquarePanel(final Color color, final int side) {
+            this.color = color;
+            this.side = side;
+            this.setBounds(0, 0, SIZE, SIZE);
+            this.setOpaque(false);
+        }
+
+        @Override
+        public void attachTo(final GameLoop loop) {
+        }
+
+        @Override
+        protected void drawPanel(final Graphics g) {
+            g.setColor(this.color);
+            g.fillRect(0, 0, this.side, this.side);
+        }
+    }
+}
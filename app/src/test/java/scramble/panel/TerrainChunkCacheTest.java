@@ -0,0 +1,74 @@
+package scramble.panel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.MapController;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.util.LandUtils;
+import scramble.model.world.Landscape;
+import scramble.model.world.TerrainSnapshot;
+import scramble.utility.Constants;
+import scramble.view.compact.TerrainChunkCache;
+
+class TerrainChunkCacheTest {
+
+    private static final int SCROLL = 37;
+    private static final int HEIGHT = LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT);
+
+    @Test
+    void testChunksDrawLikeTheSingleTiles() {
+        final List<MapColumn> columns = List.copyOf(new Landscape(new MapController()).getLoadedColumns());
+        final TerrainChunkCache cache = new TerrainChunkCache();
+
+        final BufferedImage expected = new BufferedImage(Constants.WINDOW_WIDTH, HEIGHT,
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D tiles = expected.createGraphics();
+        for (final MapColumn column : columns) {
+            for (int i = 0; i < column.getTileCount(); i++) {
+                tiles.drawImage(column.getTile(i), column.getX() - SCROLL, LandUtils.multiplyPixelPerSprite(i),
+                        column.gettWidth(), column.getBIsHeight(), null);
+            }
+        }
+        tiles.dispose();
+
+        // The second frame draws the chunks baked by the first one
+        BufferedImage actual = null;
+        for (int frame = 0; frame < 2; frame++) {
+            actual = new BufferedImage(Constants.WINDOW_WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D chunks = actual.createGraphics();
+            cache.draw(chunks, new TerrainSnapshot(columns, null, SCROLL, 1));
+            chunks.dispose();
+        }
+
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < Constants.WINDOW_WIDTH; x++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+    }
+
+    @Test
+    void testChunksOfUnloadedColumnsAreDropped() {
+        final List<MapColumn> columns = List.copyOf(new Landscape(new MapController()).getLoadedColumns());
+        final TerrainChunkCache cache = new TerrainChunkCache();
+        final Graphics2D g = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+        cache.draw(g, new TerrainSnapshot(columns, null, 0, 1));
+        final int chunks = cache.size();
+        cache.draw(g, new TerrainSnapshot(columns.subList(0, TerrainChunkCache.CHUNK_COLUMNS), null, 0, 1));
+        // Same version, same columns
+        assertEquals(chunks, cache.size());
+        cache.draw(g, new TerrainSnapshot(columns.subList(0, TerrainChunkCache.CHUNK_COLUMNS), null, 0, 2));
+        g.dispose();
+
+        assertEquals((columns.size() + TerrainChunkCache.CHUNK_COLUMNS - 1) / TerrainChunkCache.CHUNK_COLUMNS,
+                chunks);
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,110 @@
+package scramble.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.RandomService;
+import scramble.model.common.impl.RandomServiceImpl;
+import scramble.model.replay.InputLog;
+import scramble.model.replay.InputRecorder;
+import scramble.model.replay.ReplayPlayer;
+import scramble.model.world.GameWorld;
+import scramble.model.world.InputButton;
+import scramble.model.world.InputFrame;
+import scramble.model.world.TickScheduler;
+
+class ReplayTest {
+
+    private static final long SEED = 42;
+    private static final int TICKS = 3 * InputLog.CHECKPOINT_PERIOD + 10;
+    private static final int SHOT_PERIOD = 7;
+    private static final int TURN_PERIOD = 90;
+    private static final int MAX_LOG_BYTES = 64;
+    private static final int SEED_OFFSET = Integer.BYTES + Byte.BYTES;
+
+    private static InputLog record(final GameWorld world) {
+        final InputRecorder recorder = new InputRecorder(world);
+        for (int i = 0; i < TICKS; i++) {
+            final InputButton direction = i / TURN_PERIOD % 2 == 0 ? InputButton.DOWN : InputButton.UP;
+            recorder.step(i % SHOT_PERIOD == 0
+                    ? InputFrame.of(direction, InputButton.SHOOT, InputButton.BOMB)
+                    : InputFrame.of(direction));
+        }
+        return recorder.getLog();
+    }
+
+    private static byte[] toBytes(final InputLog log) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void testStreamsDependOnlyOnSeedAndName() {
+        final RandomService first = new RandomServiceImpl(SEED);
+        final RandomService second = new RandomServiceImpl(SEED);
+        second.stream("other").nextLong();
+
+        assertEquals(first.stream("launches").nextLong(), second.stream("launches").nextLong());
+        assertNotEquals(first.stream("launches").nextLong(), first.stream("map").nextLong());
+    }
+
+    @Test
+    void testLogIsWrittenAsRunsOfTheSameInput() throws IOException {
+        final InputLog log = new InputLog(SEED);
+        for (int i = 0; i < TICKS; i++) {
+            log.append(i < TICKS / 2 ? InputFrame.of(InputButton.UP) : InputFrame.EMPTY);
+        }
+        final byte[] bytes = toBytes(log);
+        final InputLog read = InputLog.readFrom(new ByteArrayInputStream(bytes));
+
+        assertTrue(bytes.length < MAX_LOG_BYTES);
+        assertEquals(SEED, read.getSeed());
+        assertEquals(TICKS, read.size());
+        for (int i = 0; i < TICKS; i++) {
+            assertEquals(log.get(i), read.get(i));
+        }
+    }
+
+    @Test
+    void testReplayPlaysTheRecordedGame() throws IOException {
+        final GameWorld world = new GameWorld(new RandomServiceImpl(SEED));
+        // A game played before the recorded one changes nothing
+        record(world);
+        world.reset();
+        final InputLog log = InputLog.readFrom(new ByteArrayInputStream(toBytes(record(world))));
+        assertEquals(TICKS / InputLog.CHECKPOINT_PERIOD, log.checkpoints());
+
+        final ReplayPlayer player = new ReplayPlayer(log, TickScheduler.sequential());
+        // Any speed, the same game
+        assertEquals(1, player.advance(1));
+        assertEquals(InputLog.CHECKPOINT_PERIOD, player.advance(InputLog.CHECKPOINT_PERIOD));
+        assertEquals(TICKS - InputLog.CHECKPOINT_PERIOD - 1, player.runToEnd());
+
+        assertTrue(player.isFinished());
+        assertEquals(0, player.advance(1));
+        assertEquals(-1, player.getDesyncTick());
+        assertEquals(world.checksum(), player.getWorld().checksum());
+        assertEquals(world.getScore(), player.getWorld().getScore());
+    }
+
+    @Test
+    void testReplayOnAnotherSeedIsOutOfSync() throws IOException {
+        final byte[] bytes = toBytes(record(new GameWorld(new RandomServiceImpl(SEED))));
+        ByteBuffer.wrap(bytes).putLong(SEED_OFFSET, SEED + 1);
+        final ReplayPlayer player = new ReplayPlayer(InputLog.readFrom(new ByteArrayInputStream(bytes)));
+
+        player.runToEnd();
+
+        assertTrue(player.getDesyncTick() > 0);
+        assertEquals(0, player.getDesyncTick() % InputLog.CHECKPOINT_PERIOD);
+    }
+}
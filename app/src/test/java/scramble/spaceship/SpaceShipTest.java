@@ -1,16 +1,13 @@
 package scramble.spaceship;
 
 import java.util.ArrayList;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
-import scramble.model.enemy.Rocket;
 import scramble.model.spaceship.SpaceShip;
 import scramble.utility.Constants;
 
@@ -25,27 +22,6 @@ class SpaceShipTest {
         assertEquals(0, spaceShip.getySpeed());
         assertFalse(spaceShip.isHit());
         assertFalse(spaceShip.checkGroundCollision(new ArrayList<>()));
-        assertFalse(spaceShip.checkEnemyCollision(new ArrayList<>()));
-    }
-
-    @Test
-    void testDetectsEnemyCollisionAccurately() {
-        // Create a SpaceShip instance
-        final SpaceShip spaceShip = new SpaceShip(0, 0, Constants.SPACESHIP_WIDTH, Constants.SPACESHIP_HEIGHT);
-
-        // Create a list of RocketImpl instances (mocked)
-        final List<Rocket> rockets = new ArrayList<>();
-        final Rocket rocket1 = new Rocket(0, 0, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT);
-        final Rocket rocket2 = new Rocket(100, 0, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT);
-        rockets.add(rocket1);
-        rockets.add(rocket2);
-
-        assertTrue(rocket1.hasCollided(spaceShip));
-        assertFalse(rocket2.hasCollided(spaceShip));
-
-        // Test the checkEnemyCollision method
-        assertTrue(spaceShip.checkEnemyCollision(rockets));
-        assertTrue(spaceShip.isHit());
     }
 
     @Test
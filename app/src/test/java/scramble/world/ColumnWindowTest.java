@@ -0,0 +1,113 @@
+package scramble.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.MapColumnImpl;
+import scramble.model.map.impl.MapElement;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.enums.TerrainType;
+import scramble.model.world.ColumnWindow;
+
+class ColumnWindowTest {
+
+    private static final int SIDE = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+    private static final int MAP_SIZE = 20;
+    private static final int CAPACITY = 5;
+
+    private final List<MapColumn> map = new ArrayList<>();
+    private int loads;
+    private ColumnWindow window;
+
+    @BeforeEach
+    void setUp() {
+        final BufferedImage image = new BufferedImage(SIDE, SIDE, BufferedImage.TYPE_INT_ARGB);
+        for (int i = 0; i < MAP_SIZE; i++) {
+            final MapColumn column = new MapColumnImpl(
+                    new MapElement(0, 0, SIDE, SIDE, image, TerrainType.GREENLAND, LandBehaviour.FLAT),
+                    new MapElement(0, SIDE * 10, SIDE, SIDE, image, TerrainType.GREENLAND, LandBehaviour.FLAT),
+                    0, TerrainType.GREENLAND);
+            column.updateX(i * SIDE);
+            map.add(column);
+        }
+        window = new ColumnWindow(index -> {
+            loads++;
+            return map.get(index);
+        }, CAPACITY);
+    }
+
+    @Test
+    void testMovingForwardLoadsOnlyTheNewColumns() {
+        window.moveTo(0);
+        loads = 0;
+
+        window.moveTo(2);
+
+        assertEquals(2, loads);
+        assertEquals(map.subList(2, 2 + CAPACITY), window);
+        assertFalse(window.moveTo(2));
+    }
+
+    @Test
+    void testBigOrBackwardMovesReloadTheWindow() {
+        window.moveTo(3);
+        loads = 0;
+
+        window.moveTo(1);
+        assertEquals(CAPACITY, loads);
+        assertEquals(map.subList(1, 1 + CAPACITY), window);
+
+        window.moveTo(1 + CAPACITY);
+        assertEquals(map.subList(1 + CAPACITY, 1 + 2 * CAPACITY), window);
+    }
+
+    @Test
+    void testColumnsByMapX() {
+        window.moveTo(4);
+
+        assertSame(map.get(4), window.getAtX(4 * SIDE));
+        assertSame(map.get(5), window.getAtX(6 * SIDE - 1));
+        assertNull(window.getAtX(4 * SIDE - 1));
+        assertNull(window.getAtX((4 + CAPACITY) * SIDE));
+    }
+
+    @Test
+    void testViewsDoNotFollowTheWindow() {
+        window.moveTo(0);
+        final List<MapColumn> view = window.view();
+
+        window.moveTo(CAPACITY - 1);
+        assertEquals(map.subList(0, CAPACITY), view);
+        // A reload goes after the window, the slots of the view are kept
+        window.moveTo(0);
+        final List<MapColumn> reloaded = window.view();
+        window.moveTo(2 * CAPACITY);
+        assertEquals(map.subList(0, CAPACITY), reloaded);
+        assertEquals(map.subList(2 * CAPACITY, 3 * CAPACITY), window);
+        assertThrows(UnsupportedOperationException.class, () -> reloaded.set(0, map.get(0)));
+    }
+
+    @Test
+    void testIterationSpanningAMoveFails() {
+        window.moveTo(0);
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (final MapColumn column : window) {
+                window.moveTo(column.getX() / SIDE + 1);
+            }
+        });
+    }
+}
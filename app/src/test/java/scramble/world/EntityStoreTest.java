@@ -0,0 +1,108 @@
+package scramble.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import scramble.model.world.EntityStore;
+
+class EntityStoreTest {
+
+    private static final int SIZE = 10;
+
+    private EntityStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new EntityStore();
+    }
+
+    @Test
+    void testHandlesSurviveTheRemovalOfOthers() {
+        final int first = store.add(0, 0, SIZE, SIZE);
+        final int second = store.add(100, 0, SIZE, SIZE);
+        final int third = store.add(200, 0, SIZE, SIZE);
+
+        store.removeIf(i -> store.x(i) == 100);
+
+        assertEquals(2, store.size());
+        assertEquals(0, store.x(store.indexOf(first)));
+        assertEquals(200, store.x(store.indexOf(third)));
+        assertEquals(-1, store.indexOf(second));
+    }
+
+    @Test
+    void testHandleOfAReusedSlotIsNotValidAgain() {
+        final int old = store.add(0, 0, SIZE, SIZE);
+        store.clear();
+
+        final int reused = store.add(0, 0, SIZE, SIZE);
+
+        assertNotEquals(old, reused);
+        assertEquals(-1, store.indexOf(old));
+        assertEquals(0, store.indexOf(reused));
+    }
+
+    @Test
+    void testEntitiesStaySortedByX() {
+        store.add(100, 0, SIZE, SIZE);
+        final int back = store.add(50, 0, SIZE, SIZE);
+        store.add(150, 0, SIZE, SIZE);
+
+        assertEquals(0, store.indexOf(back));
+        assertEquals(100, store.x(1));
+        assertEquals(150, store.x(2));
+    }
+
+    @Test
+    void testFirstIntersectingLooksBackByTheWidestEntity() {
+        store.add(0, 0, 100, SIZE);
+        store.add(60, 0, SIZE, SIZE);
+
+        // The box is past the start of both, but still inside the wide one
+        assertEquals(0, store.firstIntersecting(80, 0, 5, 5));
+        assertEquals(0, store.firstIntersecting(62, 0, 5, 5));
+        assertEquals(-1, store.firstIntersecting(100, 0, 5, 5));
+        assertEquals(-1, store.firstIntersecting(62, SIZE, 5, 5));
+    }
+
+    @Test
+    void testNewEntitiesStartClear() {
+        store.add(0, 0, SIZE, SIZE);
+        store.setFlag(0, EntityStore.HIT | EntityStore.CRASHED);
+        store.setState(0, 2);
+        store.incrementCounter(0);
+        store.advanceFrames();
+        assertTrue(store.hasFlag(0, EntityStore.CRASHED));
+        store.clear();
+
+        store.add(0, 0, SIZE, SIZE);
+
+        assertFalse(store.hasFlag(0, EntityStore.HIT));
+        assertEquals(0, store.state(0));
+        assertEquals(0, store.counter(0));
+        assertEquals(0, store.frame(0));
+    }
+
+    @Test
+    void testIndexesAreChecked() {
+        store.add(0, 0, SIZE, SIZE);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> store.x(1));
+    }
+
+    @Test
+    void testStoreGrows() {
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            store.add(i, i, SIZE, SIZE);
+        }
+
+        assertEquals(SIZE * SIZE, store.size());
+        assertEquals(SIZE * SIZE - 1, store.y(SIZE * SIZE - 1));
+    }
+}
@@ -0,0 +1,254 @@
+package scramble.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.bullets.Bullet;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.util.enums.Asset;
+import scramble.model.common.api.ObjectPool;
+import scramble.model.common.impl.RandomServiceImpl;
+import scramble.model.enemy.RocketState;
+import scramble.model.world.DrawList;
+import scramble.model.world.EntityStore;
+import scramble.model.world.GameWorld;
+import scramble.model.world.InputButton;
+import scramble.model.world.InputFrame;
+import scramble.model.world.RenderLayer;
+import scramble.model.world.RenderSnapshot;
+import scramble.model.world.WorldState;
+import scramble.utility.Constants;
+
+class GameWorldTest {
+
+    private static final int TICKS = 200;
+    private static final long SEED = 7;
+    private static final int AHEAD = 100;
+
+    @Test
+    void testStepScrollsTheLandscape() {
+        final GameWorld world = new GameWorld();
+        final int startX = world.getLandscape().getLandscapeX();
+
+        for (int i = 0; i < TICKS; i++) {
+            world.step(InputFrame.EMPTY);
+        }
+
+        assertEquals(TICKS, world.getTick());
+        assertEquals(startX + TICKS / 2 * Constants.LANDSCAPEX_SPEED, world.getLandscape().getLandscapeX());
+    }
+
+    @Test
+    void testTanksStayStillInTheMap() {
+        final GameWorld world = new GameWorld();
+        final EntityStore tanks = world.getFuelTanks();
+        while (tanks.size() == 0 && world.getTick() < TICKS * 10) {
+            world.step(InputFrame.EMPTY);
+        }
+        final int tank = tanks.handleAt(0);
+        final int mapX = tanks.x(0);
+        final int screenX = mapX - world.getCameraX();
+
+        for (int i = 0; i < TICKS / 2; i++) {
+            world.step(InputFrame.EMPTY);
+        }
+
+        // The tank does not move, the camera does
+        assertEquals(mapX, tanks.x(tanks.indexOf(tank)));
+        assertEquals(screenX - TICKS / 4 * Constants.LANDSCAPEX_SPEED, mapX - world.getCameraX());
+    }
+
+    @Test
+    void testInputMovesAndShoots() {
+        final GameWorld world = new GameWorld();
+        final int startX = world.getSpaceShip().getPosition().getFirstElement();
+
+        world.step(InputFrame.of(InputButton.RIGHT, InputButton.SHOOT));
+
+        assertTrue(world.getSpaceShip().getPosition().getFirstElement() > startX);
+        assertEquals(1, world.getBullets().size());
+        assertEquals(BulletType.TYPE_HORIZONTAL, world.getBullets().iterator().next().getType());
+    }
+
+    @Test
+    void testBulletsComeBackFromTheirPool() {
+        final GameWorld world = new GameWorld();
+        final InputFrame shoot = InputFrame.of(InputButton.SHOOT);
+
+        for (int i = 0; i < TICKS; i++) {
+            world.step(shoot);
+        }
+
+        // Only the bullets flying at the same time are ever created
+        final ObjectPool<Bullet> pool = world.getBulletPool(BulletType.TYPE_HORIZONTAL);
+        assertTrue(pool.getHits() > 0);
+        assertTrue(pool.getMisses() < TICKS);
+        assertEquals(TICKS, pool.getHits() + pool.getMisses());
+    }
+
+    @Test
+    void testSnapshotIsCapturedFromTheWorld() {
+        final GameWorld world = new GameWorld();
+        final InputFrame shoot = InputFrame.of(InputButton.SHOOT);
+        for (int i = 0; i < TICKS; i++) {
+            world.step(shoot);
+        }
+        final RenderSnapshot snapshot = new RenderSnapshot();
+
+        world.capture(snapshot);
+
+        assertEquals(world.getTick(), snapshot.getTick());
+        assertEquals(world.getCameraX(), snapshot.getCameraX());
+        assertEquals(world.getScore(), snapshot.getScore());
+        assertEquals(Asset.SHIP, snapshot.getLayer(RenderLayer.SPACESHIP).asset(0));
+        assertEquals(world.getSpaceShip().x(), snapshot.getLayer(RenderLayer.SPACESHIP).x(0));
+        assertEquals(world.getBullets().size(), snapshot.getLayer(RenderLayer.BULLETS).size());
+        assertEquals(world.getFuelTanks().size(), snapshot.getLayer(RenderLayer.FUEL_TANKS).size());
+
+        // A second capture overwrites the first one
+        world.step(InputFrame.EMPTY);
+        world.capture(snapshot);
+        assertEquals(1, snapshot.getLayer(RenderLayer.SPACESHIP).size());
+        assertEquals(world.getBullets().size(), snapshot.getLayer(RenderLayer.BULLETS).size());
+    }
+
+    @Test
+    void testSnapshotIsDrawnBetweenTwoUpdates() {
+        final GameWorld world = new GameWorld();
+        final InputFrame down = InputFrame.of(InputButton.DOWN);
+        final RenderSnapshot snapshot = new RenderSnapshot();
+        final int startX = world.getCameraX();
+        // The second tick scrolls the landscape
+        world.step(down);
+        final int shipY = world.getSpaceShip().y();
+        world.step(down);
+        world.capture(snapshot);
+
+        final DrawList ship = snapshot.getLayer(RenderLayer.SPACESHIP);
+        assertEquals(shipY, ship.y(0, snapshot.getAlpha(RenderLayer.SPACESHIP, 0)));
+        assertEquals(world.getSpaceShip().y(), ship.y(0, snapshot.getAlpha(RenderLayer.SPACESHIP, 1)));
+        // The camera takes two ticks to get to the last scrolling
+        assertEquals(startX, snapshot.getCameraX(snapshot.getScrollAlpha(0)));
+        assertEquals(startX + Constants.LANDSCAPEX_SPEED / 2, snapshot.getCameraX(snapshot.getScrollAlpha(1)));
+
+        world.step(down);
+        world.capture(snapshot);
+        assertEquals(startX + Constants.LANDSCAPEX_SPEED, world.getCameraX());
+        assertEquals(world.getCameraX(), snapshot.getCameraX(snapshot.getScrollAlpha(1)));
+    }
+
+    @Test
+    void testGameOverWithoutLives() {
+        final GameWorld world = new GameWorld();
+        final InputFrame down = InputFrame.of(InputButton.DOWN);
+
+        int ticks = 0;
+        while (world.getState() != WorldState.GAME_OVER && ticks < TICKS * 100) {
+            world.step(down);
+            ticks++;
+        }
+
+        assertEquals(WorldState.GAME_OVER, world.getState());
+        assertEquals(0, world.getLives());
+        assertFalse(world.getSpaceShip().isHit());
+
+        world.reset();
+        assertEquals(WorldState.RUNNING, world.getState());
+        assertEquals(Constants.MAX_LIVES, world.getLives());
+    }
+
+    @Test
+    void testWaitingRocketStandsStillUntilItIsLaunched() {
+        final GameWorld world = new GameWorld(new RandomServiceImpl(SEED));
+        final EntityStore rockets = world.getRockets();
+        final int handle = firstRocket(world);
+        final int y = rockets.y(rockets.indexOf(handle));
+
+        while (rockets.state(rockets.indexOf(handle)) == RocketState.PREMOVE.ordinal()) {
+            assertEquals(y, rockets.y(rockets.indexOf(handle)));
+            world.step(InputFrame.EMPTY);
+        }
+        world.step(InputFrame.EMPTY);
+        world.step(InputFrame.EMPTY);
+
+        // Launched, it climbs at every scrolling
+        assertEquals(RocketState.MOVING.ordinal(), rockets.state(rockets.indexOf(handle)));
+        assertTrue(rockets.y(rockets.indexOf(handle)) < y);
+    }
+
+    @Test
+    void testRocketAnimationAdvancesEveryTick() {
+        final GameWorld world = new GameWorld(new RandomServiceImpl(SEED));
+        final EntityStore rockets = world.getRockets();
+        final int handle = firstRocket(world);
+        final int frame = rockets.frame(rockets.indexOf(handle));
+
+        world.step(InputFrame.EMPTY);
+
+        assertEquals(frame + 1, rockets.frame(rockets.indexOf(handle)));
+    }
+
+    @Test
+    void testHitRocketIsNotLaunchedAndScores() {
+        final GameWorld world = new GameWorld(new RandomServiceImpl(SEED));
+        final EntityStore rockets = world.getRockets();
+        final int handle = firstRocket(world);
+        final int y = rockets.y(rockets.indexOf(handle));
+        final int score = world.getScore();
+        rockets.setFlag(rockets.indexOf(handle), EntityStore.HIT);
+
+        while (rockets.indexOf(handle) >= 0) {
+            assertEquals(y, rockets.y(rockets.indexOf(handle)));
+            world.step(InputFrame.EMPTY);
+            if (rockets.indexOf(handle) >= 0) {
+                assertFalse(rockets.state(rockets.indexOf(handle)) == RocketState.MOVING.ordinal());
+            }
+        }
+
+        assertEquals(score + Constants.ROCKET_POINTS, world.getScore());
+    }
+
+    @Test
+    void testBulletHitsTheRocketInFrontOfTheSpaceShip() {
+        final GameWorld world = new GameWorld(new RandomServiceImpl(SEED));
+        final EntityStore rockets = world.getRockets();
+        final int handle = rockets.add(world.getCameraX() + world.getSpaceShip().x() + AHEAD,
+                world.getSpaceShip().y(), Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT);
+        rockets.setState(rockets.indexOf(handle), RocketState.PREMOVE.ordinal());
+
+        world.step(InputFrame.of(InputButton.SHOOT));
+        int ticks = 0;
+        while (!rockets.hasFlag(rockets.indexOf(handle), EntityStore.HIT) && ticks < TICKS) {
+            world.step(InputFrame.EMPTY);
+            ticks++;
+        }
+
+        assertTrue(rockets.hasFlag(rockets.indexOf(handle), EntityStore.HIT));
+        assertTrue(world.getBullets().isEmpty());
+    }
+
+    @Test
+    void testRocketCrashesTheSpaceShip() {
+        final GameWorld world = new GameWorld(new RandomServiceImpl(SEED));
+        final EntityStore rockets = world.getRockets();
+        final int handle = rockets.add(world.getCameraX() + world.getSpaceShip().x(), world.getSpaceShip().y(),
+                Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT);
+        rockets.setState(rockets.indexOf(handle), RocketState.PREMOVE.ordinal());
+
+        world.step(InputFrame.EMPTY);
+
+        assertEquals(WorldState.DESTROYED, world.getState());
+        assertTrue(world.getSpaceShip().isHit());
+    }
+
+    /* Steps the world until a rocket comes, and returns its handle. */
+    private static int firstRocket(final GameWorld world) {
+        while (world.getRockets().size() == 0 && world.getTick() < TICKS * 10) {
+            world.step(InputFrame.EMPTY);
+        }
+        return world.getRockets().handleAt(0);
+    }
+}
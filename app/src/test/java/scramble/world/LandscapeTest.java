@@ -0,0 +1,49 @@
+package scramble.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.MapController;
+import scramble.model.map.util.LandUtils;
+import scramble.model.world.Landscape;
+import scramble.model.world.TerrainSnapshot;
+import scramble.utility.Constants;
+
+class LandscapeTest {
+
+    @Test
+    void testResetCorrectlyResetsLandscape() {
+        // Create a Landscape instance
+        final Landscape landscape = new Landscape(new MapController());
+
+        // Set up initial landscape position
+        final int initialPosition = 4 * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+        landscape.reset(initialPosition);
+
+        // Verify that the landscape is reset to the given starter position
+        assertEquals(initialPosition, landscape.getCurrentMapX());
+    }
+
+    @Test
+    void testSnapshotVersionChangesOnlyWithTheColumns() {
+        final Landscape landscape = new Landscape(new MapController());
+        final long version = landscape.getSnapshot().getVersion();
+
+        landscape.update();
+        final TerrainSnapshot scrolled = landscape.getSnapshot();
+
+        assertEquals(version, scrolled.getVersion());
+        assertEquals(landscape.getLandscapeX(), scrolled.getScrollX());
+
+        // The window moves by one column as soon as the scroll crosses it
+        for (int i = 1; i < LandUtils.PIXEL_PER_LAND_SPRITE_SIDE / Constants.LANDSCAPEX_SPEED; i++) {
+            landscape.update();
+        }
+        assertNotEquals(version, landscape.getSnapshot().getVersion());
+        assertEquals(LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, landscape.getLoadedColumns().get(0).getX());
+        assertSame(landscape.getLoadedColumns().get(0), landscape.getColumnAtX(landscape.getLandscapeX()));
+    }
+}
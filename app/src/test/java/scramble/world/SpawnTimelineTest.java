@@ -0,0 +1,63 @@
+package scramble.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.Pair;
+import scramble.model.common.impl.PairImpl;
+import scramble.model.world.SpawnTimeline;
+
+class SpawnTimelineTest {
+
+    private int created;
+    private SpawnTimeline<String> timeline;
+
+    @BeforeEach
+    void setUp() {
+        final List<Pair<Integer, Integer>> positions = List.of(
+                new PairImpl<>(300, 3), new PairImpl<>(100, 1), new PairImpl<>(200, 2), new PairImpl<>(200, 4));
+        created = 0;
+        timeline = new SpawnTimeline<>(positions, (x, y) -> {
+            created++;
+            return x + ":" + y;
+        });
+    }
+
+    @Test
+    void testEntitiesSpawnInOrderOfX() {
+        final List<String> spawned = new ArrayList<>();
+
+        timeline.spawnUntil(200, spawned::add);
+
+        // The positions with the same x keep their order
+        assertEquals(List.of("100:1", "200:2", "200:4"), spawned);
+        assertEquals(1, timeline.remaining());
+    }
+
+    @Test
+    void testEntitiesAreCreatedOnlyWhenReached() {
+        timeline.spawnUntil(99, s -> { });
+        assertEquals(0, created);
+
+        timeline.spawnUntil(150, s -> { });
+        timeline.spawnUntil(150, s -> { });
+        assertEquals(1, created);
+    }
+
+    @Test
+    void testSeekSkipsThePositionsBefore() {
+        final List<String> spawned = new ArrayList<>();
+        timeline.spawnUntil(1000, s -> { });
+
+        timeline.seek(200);
+        timeline.spawnUntil(1000, spawned::add);
+
+        assertEquals(List.of("200:2", "200:4", "300:3"), spawned);
+        assertEquals(4, timeline.size());
+    }
+}
@@ -0,0 +1,89 @@
+package scramble.world;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import scramble.model.world.TickScheduler;
+import scramble.model.world.TickSystem;
+import scramble.model.world.WorldComponent;
+
+class TickSchedulerTest {
+
+    private static final int GRAIN = 8;
+    private static final int SIZE = 1000;
+
+    private ForkJoinPool pool;
+    private TickScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        scheduler = new TickScheduler(pool, GRAIN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static TickSystem system(final String name, final WorldComponent read, final WorldComponent write) {
+        return new TickSystem(name, EnumSet.of(read), EnumSet.of(write), () -> { });
+    }
+
+    @Test
+    void testSystemsAreBatchedByConflicts() {
+        final TickSystem bullets = system("bullets", WorldComponent.SPACESHIP, WorldComponent.BULLETS);
+        final TickSystem rockets = system("rockets", WorldComponent.LANDSCAPE, WorldComponent.ROCKETS);
+        final TickSystem landscape = system("landscape", WorldComponent.BOSS, WorldComponent.LANDSCAPE);
+        final TickSystem tanks = system("tanks", WorldComponent.BOSS, WorldComponent.TANKS);
+
+        // The landscape is read by the rockets, so it waits for them
+        assertEquals(List.of(List.of(bullets, rockets), List.of(landscape, tanks)),
+                scheduler.plan(List.of(bullets, rockets, landscape, tanks)));
+    }
+
+    @Test
+    void testEveryIndexIsVisitedOnce() {
+        final AtomicIntegerArray visits = new AtomicIntegerArray(SIZE);
+
+        scheduler.forRange(SIZE, visits::incrementAndGet);
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(1, visits.get(i));
+        }
+    }
+
+    @Test
+    void testFirstMatchIsTheLowestIndex() {
+        assertEquals(SIZE / 3, scheduler.findFirst(SIZE, i -> i >= SIZE / 3 && i % 2 == SIZE / 3 % 2));
+        assertEquals(-1, scheduler.findFirst(SIZE, i -> false));
+    }
+
+    @Test
+    void testParallelRunEndsLikeTheSequentialOne() {
+        final int[] parallel = new int[SIZE];
+        final int[] sequential = new int[SIZE];
+
+        scheduler.run(scheduler.plan(List.of(
+                new TickSystem("first half", EnumSet.noneOf(WorldComponent.class),
+                        EnumSet.of(WorldComponent.ROCKETS),
+                        () -> scheduler.forRange(SIZE / 2, i -> parallel[i] = i * i)),
+                new TickSystem("second half", EnumSet.noneOf(WorldComponent.class),
+                        EnumSet.of(WorldComponent.TANKS),
+                        () -> scheduler.forRange(SIZE / 2, i -> parallel[SIZE / 2 + i] = -i)))));
+        final TickScheduler single = TickScheduler.sequential();
+        single.forRange(SIZE / 2, i -> sequential[i] = i * i);
+        single.forRange(SIZE / 2, i -> sequential[SIZE / 2 + i] = -i);
+
+        assertArrayEquals(sequential, parallel);
+    }
+}
@@ -74,4 +74,48 @@ sourceSets {
             setSrcDirs(listOf("app/src/main/resources"))
         }
     }
-}
\ No newline at end of file
+}
+/*
+ * JMH benchmarks, in app/src/jmh/java.
+ * Run them with the "jmh" task: the results are written as JSON in build/reports/jmh/results.json.
+ * A subset can be selected with a regular expression, e.g. ./gradlew jmh -Pjmh.includes=Collision
+ */
+val jmh: SourceSet by sourceSets.creating {
+    java {
+        setSrcDirs(listOf("app/src/jmh/java"))
+    }
+    resources {
+        setSrcDirs(listOf("app/src/main/resources"))
+    }
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.compileOnlyConfigurationName].extendsFrom(configurations.compileOnly.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    val jmhVersion = "1.37"
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+// The benchmarks and the code generated by JMH are not part of the game, they are not checked by the QA tools
+tasks.matching { it.name in setOf("checkstyleJmh", "pmdJmh", "spotbugsJmh") }.configureEach {
+    enabled = false
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks and writes the results as JSON."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    jvmArgs("-Djava.awt.headless=true")
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst {
+        results.parentFile.mkdirs()
+    }
+    args("-rf", "json", "-rff", results.absolutePath)
+    project.findProperty("jmh.includes")?.let { args(it.toString()) }
+}